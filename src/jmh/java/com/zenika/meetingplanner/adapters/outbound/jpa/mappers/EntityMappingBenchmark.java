@@ -0,0 +1,95 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa.mappers;
+
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaEquipment;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.Room;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written JpaDomainMapper with the ModelMapper bean it replaced,
+ * on a room with its reservations and on a single saved meeting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMappingBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int reservationCount;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final JpaDomainMapper jpaDomainMapper = new JpaDomainMapper();
+
+    private JpaRoom jpaRoom;
+    private JpaMeeting jpaMeeting;
+
+    @Setup
+    public void setUp() {
+        JpaEquipment projector = JpaEquipment.builder().id(1L).name("Projector").build();
+        JpaMeetingType jpaMeetingType = JpaMeetingType.builder()
+                .id(1L)
+                .name("SPEC")
+                .minimumCapacity(5)
+                .requiredEquipment(List.of(projector))
+                .build();
+
+        jpaRoom = JpaRoom.builder()
+                .id(1L)
+                .name("Conference Room A")
+                .capacity(20)
+                .equipments(List.of(projector, JpaEquipment.builder().id(2L).name("Whiteboard").build()))
+                .reservations(new ArrayList<>())
+                .build();
+        for (int i = 0; i < reservationCount; i++) {
+            jpaRoom.getReservations().add(JpaMeeting.builder()
+                    .id((long) i)
+                    .date(LocalDate.of(2024, 12, 1).minusDays(i / 6))
+                    .hour(8 + 2 * (i % 6))
+                    .participantCount(8)
+                    .type(jpaMeetingType)
+                    .room(jpaRoom)
+                    .build());
+        }
+
+        jpaMeeting = JpaMeeting.builder()
+                .id(-1L)
+                .date(LocalDate.of(2024, 12, 1))
+                .hour(10)
+                .participantCount(8)
+                .type(jpaMeetingType)
+                .room(jpaRoom)
+                .build();
+    }
+
+    @Benchmark
+    public Room roomWithModelMapper() {
+        return modelMapper.map(jpaRoom, Room.class);
+    }
+
+    @Benchmark
+    public Room roomWithJpaDomainMapper() {
+        return jpaDomainMapper.toDomain(jpaRoom, jpaRoom.getReservations());
+    }
+
+    @Benchmark
+    public Meeting meetingWithModelMapper() {
+        return modelMapper.map(jpaMeeting, Meeting.class);
+    }
+
+    @Benchmark
+    public Meeting meetingWithJpaDomainMapper() {
+        return jpaDomainMapper.toDomain(jpaMeeting);
+    }
+}
@@ -0,0 +1,222 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.application.services.RoomBookingService;
+import com.zenika.meetingplanner.common.dtos.MeetingRequestDto;
+import com.zenika.meetingplanner.common.dtos.MeetingResponseDto;
+import com.zenika.meetingplanner.common.dtos.RoomWithAvailableHoursDto;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs both use cases end to end against in-memory ports, so that only the application and domain code is measured.
+ * The assignment benchmark fills every room of a date hour by hour before moving to the next date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class UseCaseBenchmark {
+
+    private static final LocalDate MEETING_DATE = LocalDate.of(2024, 12, 1);
+    private static final int MEETINGS_PER_ROOM_AND_DAY = 7; // 8:00, 10:00, ..., 20:00
+
+    @Param({"10", "1000", "10000"})
+    private int roomCount;
+
+    @Param({"0", "1000", "1000000"})
+    private int historySize;
+
+    private InMemoryRoomRepository roomRepository;
+    private InMemoryMeetingRepository meetingRepository;
+    private InMemoryMeetingTypeRepository meetingTypeRepository;
+
+    private AssignMeetingToBestRoomUseCase assignMeetingToBestRoomUseCase;
+    private GetBestRoomWithAvailableHoursUseCase getBestRoomWithAvailableHoursUseCase;
+
+    private long assignmentCount;
+
+    @Setup(Level.Trial)
+    public void setUpCatalog() {
+        Random random = new Random(42);
+        List<Equipment> screen = List.of(new Equipment("Screen"));
+        List<Room> rooms = new ArrayList<>(roomCount);
+        for (long id = 0; id < roomCount; id++) {
+            rooms.add(Room.builder()
+                    .id(id)
+                    .name("Room " + id)
+                    .capacity(6 + random.nextInt(20))
+                    .equipments(screen)
+                    .reservations(List.of())
+                    .build());
+        }
+        roomRepository = new InMemoryRoomRepository(rooms);
+        meetingTypeRepository = new InMemoryMeetingTypeRepository(MeetingType.builder()
+                .id(1L)
+                .name("VC")
+                .minimumCapacity(3)
+                .requiredEquipment(screen)
+                .build());
+
+        // Spread the history over the days before the meeting date, every room busy every other hour
+        meetingRepository = new InMemoryMeetingRepository();
+        for (int i = 0; i < historySize; i++) {
+            Room room = rooms.get(i % roomCount);
+            int slot = (i / roomCount) % MEETINGS_PER_ROOM_AND_DAY;
+            long day = (long) i / ((long) roomCount * MEETINGS_PER_ROOM_AND_DAY);
+            meetingRepository.add(Meeting.builder()
+                    .date(MEETING_DATE.minusDays(1 + day))
+                    .hour(8 + 2 * slot)
+                    .room(room)
+                    .build());
+        }
+
+        // Book every other room at 10:00 on the meeting date
+        for (int i = 0; i < roomCount; i += 2) {
+            meetingRepository.add(Meeting.builder().date(MEETING_DATE).hour(10).room(rooms.get(i)).build());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpUseCases() {
+        // Fresh in-memory catalog and indexes, so that the bookings of one iteration do not pile up into the next
+        RoomAvailabilityIndex roomAvailabilityIndex = new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES);
+        RoomCatalog roomCatalog = new RoomCatalog(roomRepository, meetingTypeRepository);
+        RoomBookingService roomBookingService = new RoomBookingService(roomCatalog, roomAvailabilityIndex, meetingRepository);
+        assignMeetingToBestRoomUseCase = new AssignMeetingToBestRoomUseCase(roomBookingService, roomCatalog,
+                new ArchivePolicy(Clock.fixed(MEETING_DATE.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC), 90));
+        getBestRoomWithAvailableHoursUseCase = new GetBestRoomWithAvailableHoursUseCase(roomCatalog, roomAvailabilityIndex);
+        assignmentCount = 0;
+    }
+
+    @Benchmark
+    public MeetingResponseDto assignMeetingToBestRoom() {
+        long slot = assignmentCount % MEETINGS_PER_ROOM_AND_DAY;
+        long day = assignmentCount / ((long) roomCount * MEETINGS_PER_ROOM_AND_DAY);
+        assignmentCount++;
+        return assignMeetingToBestRoomUseCase.execute(MeetingRequestDto.builder()
+                .meetingType("VC")
+                .participantCount(4)
+                .meetingDate(MEETING_DATE.plusDays(1 + day).toString())
+                .meetingHour(8 + 2 * (int) slot)
+                .build());
+    }
+
+    @Benchmark
+    public RoomWithAvailableHoursDto getBestRoomWithAvailableHours() {
+        return getBestRoomWithAvailableHoursUseCase.execute("VC", 4, MEETING_DATE);
+    }
+
+    static class InMemoryRoomRepository implements RoomRepositoryPort {
+
+        private final List<Room> rooms;
+
+        InMemoryRoomRepository(List<Room> rooms) {
+            this.rooms = rooms;
+        }
+
+        @Override
+        public List<Room> findAllRooms() {
+            return rooms;
+        }
+
+        @Override
+        public List<Room> findAllRoomsWithEquipments() {
+            return rooms;
+        }
+
+        @Override
+        public List<Room> findAllRoomsWithReservationsOn(LocalDate date) {
+            return rooms;
+        }
+
+        @Override
+        public Optional<Room> findBestRoom(MeetingType meetingType, int participantCount, LocalDate date, int hour, int durationMinutes) {
+            return Optional.empty();
+        }
+    }
+
+    static class InMemoryMeetingRepository implements MeetingRepositoryPort {
+
+        private final Map<LocalDate, List<Meeting>> meetingsByDate = new HashMap<>();
+
+        void add(Meeting meeting) {
+            meetingsByDate.computeIfAbsent(meeting.getDate(), date -> new ArrayList<>()).add(meeting);
+        }
+
+        @Override
+        public Meeting save(Meeting meeting) {
+            // Saved meetings are tracked by the availability index; keeping them here would only grow the heap
+            return meeting;
+        }
+
+        @Override
+        public List<Meeting> saveAll(List<Meeting> meetings) {
+            return meetings;
+        }
+
+        @Override
+        public List<Meeting> saveAllUnclaimed(List<Meeting> meetings) {
+            return meetings;
+        }
+
+        @Override
+        public List<Meeting> findAllByDate(LocalDate date) {
+            return meetingsByDate.getOrDefault(date, List.of());
+        }
+
+        @Override
+        public void forEachInDateRange(LocalDate from, LocalDate to, Consumer<Meeting> consumer) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                findAllByDate(date).forEach(consumer);
+            }
+        }
+
+        @Override
+        public int archiveBefore(LocalDate date, int limit) {
+            return 0;
+        }
+
+        @Override
+        public int deleteSlotClaimsBefore(LocalDate date, int limit) {
+            return 0;
+        }
+    }
+
+    static class InMemoryMeetingTypeRepository implements MeetingTypeRepositoryPort {
+
+        private final MeetingType meetingType;
+
+        InMemoryMeetingTypeRepository(MeetingType meetingType) {
+            this.meetingType = meetingType;
+        }
+
+        @Override
+        public Optional<MeetingType> findByName(String meetingTypeName) {
+            return meetingType.getName().equals(meetingTypeName) ? Optional.of(meetingType) : Optional.empty();
+        }
+
+        @Override
+        public List<MeetingType> findAll() {
+            return List.of(meetingType);
+        }
+    }
+}
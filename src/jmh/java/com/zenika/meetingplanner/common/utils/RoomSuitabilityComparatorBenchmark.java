@@ -0,0 +1,58 @@
+package com.zenika.meetingplanner.common.utils;
+
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.Room;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ranking rooms with RoomSuitabilityComparator, as a full sort and as the min() the use cases used to run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomSuitabilityComparatorBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int roomCount;
+
+    private final RoomSuitabilityComparator comparator = new RoomSuitabilityComparator();
+
+    private List<Room> rooms;
+
+    @Setup
+    public void setUp() {
+        List<Equipment> catalog = List.of(new Equipment("Screen"), new Equipment("Webcam"),
+                new Equipment("Octopus"), new Equipment("Board"));
+        Random random = new Random(42);
+        rooms = new ArrayList<>(roomCount);
+        for (long id = 0; id < roomCount; id++) {
+            rooms.add(Room.builder()
+                    .id(id)
+                    .name("Room " + id)
+                    .capacity(4 + random.nextInt(30))
+                    .equipments(catalog.subList(0, random.nextInt(catalog.size() + 1)))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<Room> sort() {
+        List<Room> sorted = new ArrayList<>(rooms);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    @Benchmark
+    public Room min() {
+        return Collections.min(rooms, comparator);
+    }
+}
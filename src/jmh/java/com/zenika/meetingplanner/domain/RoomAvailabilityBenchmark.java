@@ -0,0 +1,65 @@
+package com.zenika.meetingplanner.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-room checks of the selection against a growing reservation history.
+ * The cost per call should stay flat whatever the history size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RoomAvailabilityBenchmark {
+
+    private static final LocalDate MEETING_DATE = LocalDate.of(2024, 12, 1);
+
+    @Param({"0", "1000", "1000000"})
+    private int historySize;
+
+    private Room room;
+    private List<Equipment> requiredEquipment;
+
+    @Setup
+    public void setUp() {
+        List<Meeting> reservations = new ArrayList<>(historySize + 1);
+        for (int i = 0; i < historySize; i++) {
+            // Six meetings a day on the days before the meeting date
+            reservations.add(Meeting.builder()
+                    .date(MEETING_DATE.minusDays(1 + i / 6))
+                    .hour(8 + 2 * (i % 6))
+                    .build());
+        }
+        reservations.add(Meeting.builder().date(MEETING_DATE).hour(10).build());
+
+        room = Room.builder()
+                .name("Conference Room A")
+                .capacity(20)
+                .reservations(reservations)
+                .equipments(List.of(new Equipment("Screen"), new Equipment("Webcam"), new Equipment("Octopus")))
+                .build();
+        requiredEquipment = List.of(new Equipment("Screen"), new Equipment("Webcam"));
+    }
+
+    @Benchmark
+    public boolean isAvailableAt() {
+        return room.isAvailableAt(MEETING_DATE, 12, Meeting.DEFAULT_DURATION_MINUTES, DaySchedule.DEFAULT_BUFFER_MINUTES);
+    }
+
+    @Benchmark
+    public List<Integer> findAvailableHoursOnDate() {
+        return room.findAvailableHoursOnDate(MEETING_DATE, DaySchedule.DEFAULT_BUFFER_MINUTES);
+    }
+
+    @Benchmark
+    public boolean hasAllRequiredEquipment() {
+        return room.hasAllRequiredEquipment(requiredEquipment);
+    }
+}
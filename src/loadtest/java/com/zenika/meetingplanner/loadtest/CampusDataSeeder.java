@@ -0,0 +1,98 @@
+package com.zenika.meetingplanner.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a large synthetic campus with JDBC batch inserts: equipment, the four meeting types of the README,
+ * rooms with random equipment and a history of past meetings. The same seed always produces the same dataset.
+ */
+class CampusDataSeeder {
+
+    // The first four equipment are the ones the meeting types require
+    static final String[] MEETING_TYPES = {"VC", "SPEC", "RS", "RC"};
+    private static final String[] BASE_EQUIPMENT = {"Screen", "Octopus", "Webcam", "Board"};
+    private static final int[][] REQUIRED_EQUIPMENT = {{0, 1, 2}, {3}, {}, {3, 0, 1}};
+    private static final int[] MINIMUM_CAPACITY = {1, 1, 3, 1};
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    CampusDataSeeder(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Inserts the campus.
+     *
+     * @param equipmentCount The number of equipment types, at least 4.
+     * @param roomCount      The number of rooms.
+     * @param historySize    The number of past meetings, spread over the days before the start date.
+     * @param startDate      The first day of the load test; the history ends the day before.
+     */
+    void seed(int equipmentCount, int roomCount, int historySize, LocalDate startDate) {
+        List<Object[]> equipment = new ArrayList<>();
+        for (int i = 1; i <= equipmentCount; i++) {
+            equipment.add(new Object[]{(long) i, i <= BASE_EQUIPMENT.length ? BASE_EQUIPMENT[i - 1] : "Equipment " + i});
+        }
+        jdbcTemplate.batchUpdate("insert into equipment (id, name) values (?, ?)", equipment);
+
+        List<Object[]> meetingTypes = new ArrayList<>();
+        List<Object[]> meetingTypeEquipment = new ArrayList<>();
+        for (int i = 0; i < MEETING_TYPES.length; i++) {
+            meetingTypes.add(new Object[]{(long) i + 1, MEETING_TYPES[i], MINIMUM_CAPACITY[i]});
+            for (int equipmentIndex : REQUIRED_EQUIPMENT[i]) {
+                meetingTypeEquipment.add(new Object[]{(long) i + 1, (long) equipmentIndex + 1});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into meeting_types (id, name, minimum_capacity) values (?, ?, ?)", meetingTypes);
+        jdbcTemplate.batchUpdate("insert into meeting_type_equipment (meeting_type_id, equipment_id) values (?, ?)", meetingTypeEquipment);
+
+        List<Object[]> rooms = new ArrayList<>(roomCount);
+        List<Object[]> roomEquipment = new ArrayList<>();
+        for (int i = 1; i <= roomCount; i++) {
+            rooms.add(new Object[]{(long) i, "Room " + i, 4 + random.nextInt(30)});
+            for (int e = 1; e <= equipmentCount; e++) {
+                // Base equipment is common, the long tail is rare
+                if (random.nextInt(100) < (e <= BASE_EQUIPMENT.length ? 45 : 5)) {
+                    roomEquipment.add(new Object[]{(long) i, (long) e});
+                }
+            }
+        }
+        batchInsert("insert into rooms (id, name, capacity) values (?, ?, ?)", rooms);
+        batchInsert("insert into room_equipment (room_id, equipment_id) values (?, ?)", roomEquipment);
+
+        // Six meetings a day in every room, going back one day at a time
+        List<Object[]> meetings = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < historySize; i++) {
+            long roomId = 1 + i % roomCount;
+            int slot = (i / roomCount) % 6;
+            long day = (long) i / (roomCount * 6L);
+            meetings.add(new Object[]{
+                    Date.valueOf(startDate.minusDays(1 + day)),
+                    8 + 2 * slot + random.nextInt(2),
+                    1 + random.nextInt(10),
+                    (long) 1 + random.nextInt(MEETING_TYPES.length),
+                    roomId});
+            if (meetings.size() == BATCH_SIZE) {
+                batchInsert("insert into meetings (date, hour, participant_count, meeting_type_id, room_id) values (?, ?, ?, ?, ?)", meetings);
+                meetings.clear();
+            }
+        }
+        batchInsert("insert into meetings (date, hour, participant_count, meeting_type_id, room_id) values (?, ?, ?, ?, ?)", meetings);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
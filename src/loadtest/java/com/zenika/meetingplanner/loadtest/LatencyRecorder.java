@@ -0,0 +1,64 @@
+package com.zenika.meetingplanner.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and status codes of one endpoint, recorded by a single client thread and merged at the end.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1 << 12];
+    private int count;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+    void record(long latencyNanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        statusCounts.merge(status, 1L, Long::sum);
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = other.latencies[i];
+        }
+        other.statusCounts.forEach((status, statusCount) -> statusCounts.merge(status, statusCount, Long::sum));
+    }
+
+    /**
+     * Summarises the recorded requests.
+     *
+     * @param durationSeconds The measured duration, to compute the throughput.
+     * @return The endpoint's throughput, latency percentiles in milliseconds and status counts.
+     */
+    Map<String, Object> summary(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new TreeMap<>();
+        summary.put("requests", count);
+        summary.put("throughput", count / durationSeconds);
+        summary.put("p50", percentile(sorted, 0.50));
+        summary.put("p90", percentile(sorted, 0.90));
+        summary.put("p99", percentile(sorted, 0.99));
+        summary.put("p999", percentile(sorted, 0.999));
+        summary.put("max", count == 0 ? 0.0 : sorted[count - 1] / 1e6);
+        Map<String, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((status, statusCount) -> statuses.put(String.valueOf(status), statusCount));
+        summary.put("statuses", statuses);
+        return summary;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,182 @@
+package com.zenika.meetingplanner.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zenika.meetingplanner.MeetingplannerApplication;
+import com.zenika.meetingplanner.adapters.outbound.jpa.listeners.CatalogVersionWatcher;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Boots the application on an in-memory H2 database, seeds a large campus and drives mixed read/write traffic
+ * from concurrent clients against both endpoints. Prints throughput and p50/p99/p999 latencies per endpoint,
+ * writes them as JSON and, when a baseline report is given, the change against it.
+ *
+ * <p>Settings are system properties: {@code loadtest.rooms}, {@code loadtest.equipment}, {@code loadtest.history},
+ * {@code loadtest.clients}, {@code loadtest.warmup} and {@code loadtest.duration} (seconds),
+ * {@code loadtest.writeRatio}, {@code loadtest.days}, {@code loadtest.seed}, {@code loadtest.output},
+ * {@code loadtest.baseline} and {@code loadtest.stack} ({@code servlet} or {@code reactive}).
+ */
+public class LoadTestHarness {
+
+    // Bookings of archived dates are rejected, so the load test books upcoming weeks, from the next Monday
+    private static final LocalDate START_DATE = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private static final String READ = "best-room-with-available-hours";
+    private static final String WRITE = "assign-to-best-room";
+
+    public static void main(String[] args) throws Exception {
+        int rooms = Integer.getInteger("loadtest.rooms", 2_000);
+        int equipment = Math.max(4, Integer.getInteger("loadtest.equipment", 24));
+        int history = Integer.getInteger("loadtest.history", 1_000_000);
+        int clients = Integer.getInteger("loadtest.clients", 32);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        double writeRatio = Double.parseDouble(System.getProperty("loadtest.writeRatio", "0.2"));
+        int days = Integer.getInteger("loadtest.days", 30);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        File output = new File(System.getProperty("loadtest.output", "target/loadtest/report.json"));
+        String baseline = System.getProperty("loadtest.baseline");
+        String stack = System.getProperty("loadtest.stack", "servlet");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MeetingplannerApplication.class)
+                .profiles("reactive".equals(stack) ? new String[]{"loadtest", "reactive"} : new String[]{"loadtest"})
+                .run("--server.port=0");
+        try {
+            CatalogVersionWatcher catalogVersionWatcher = context.getBean(CatalogVersionWatcher.class);
+            catalogVersionWatcher.poll();
+            long seedStart = System.nanoTime();
+            new CampusDataSeeder(context.getBean(JdbcTemplate.class), seed).seed(equipment, rooms, history, START_DATE);
+            System.out.printf("Seeded %d rooms, %d equipment and %d meetings in %.1f s%n",
+                    rooms, equipment, history, (System.nanoTime() - seedStart) / 1e9);
+            // The rows were inserted without JPA: move the catalog version like any script, then poll it right away
+            context.getBean(JdbcTemplate.class).update("update catalog_version set version = version + 1 where id = 1");
+            catalogVersionWatcher.poll();
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newFixedThreadPool(clients))
+                    .build();
+
+            // Warm up, then measure
+            drive(httpClient, baseUrl, clients, warmupSeconds, writeRatio, days, seed);
+            Map<String, LatencyRecorder> recorders = drive(httpClient, baseUrl, clients, durationSeconds, writeRatio, days, seed + 1);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("stack", stack);
+            settings.put("rooms", rooms);
+            settings.put("equipment", equipment);
+            settings.put("history", history);
+            settings.put("clients", clients);
+            settings.put("durationSeconds", durationSeconds);
+            settings.put("writeRatio", writeRatio);
+            settings.put("seed", seed);
+            report.put("settings", settings);
+            for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+                report.put(entry.getKey(), entry.getValue().summary(durationSeconds));
+            }
+
+            ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            output.getAbsoluteFile().getParentFile().mkdirs();
+            objectMapper.writeValue(output, report);
+            print(report, baseline == null ? null : objectMapper.readValue(new File(baseline), Map.class));
+            System.out.println("Report written to " + output);
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, LatencyRecorder> drive(HttpClient httpClient, String baseUrl, int clients, int seconds,
+                                                      double writeRatio, int days, long seed) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            Random random = new Random(seed * 31 + c);
+            futures.add(executor.submit(() -> {
+                Map<String, LatencyRecorder> recorders = Map.of(READ, new LatencyRecorder(), WRITE, new LatencyRecorder());
+                while (System.nanoTime() < deadline) {
+                    boolean write = random.nextDouble() < writeRatio;
+                    HttpRequest request = write ? writeRequest(baseUrl, random, days) : readRequest(baseUrl, random, days);
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (IOException e) {
+                        status = -1;
+                    }
+                    recorders.get(write ? WRITE : READ).record(System.nanoTime() - start, status);
+                }
+                return recorders;
+            }));
+        }
+
+        Map<String, LatencyRecorder> merged = new TreeMap<>(Map.of(READ, new LatencyRecorder(), WRITE, new LatencyRecorder()));
+        for (Future<Map<String, LatencyRecorder>> future : futures) {
+            future.get().forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder));
+        }
+        executor.shutdown();
+        return merged;
+    }
+
+    private static HttpRequest readRequest(String baseUrl, Random random, int days) {
+        String meetingType = CampusDataSeeder.MEETING_TYPES[random.nextInt(CampusDataSeeder.MEETING_TYPES.length)];
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/rooms/best-room-with-available-hours"
+                        + "?meetingType=" + meetingType
+                        + "&requiredCapacity=" + (1 + random.nextInt(15))
+                        + "&meetingDate=" + START_DATE.plusDays(random.nextInt(days))))
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest writeRequest(String baseUrl, Random random, int days) {
+        String meetingType = CampusDataSeeder.MEETING_TYPES[random.nextInt(CampusDataSeeder.MEETING_TYPES.length)];
+        String body = """
+                {"meetingType": "%s", "participantCount": %d, "meetingDate": "%s", "meetingHour": %d}
+                """.formatted(meetingType, 1 + random.nextInt(15), START_DATE.plusDays(random.nextInt(days)), 8 + random.nextInt(12));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/meetings/assign-to-best-room"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report, Map<String, Object> baseline) {
+        System.out.printf("%n%-32s %10s %12s %10s %10s %10s %10s  %s%n",
+                "Endpoint", "Requests", "Throughput", "p50 ms", "p99 ms", "p999 ms", "max ms", "Statuses");
+        for (String endpoint : List.of(READ, WRITE)) {
+            Map<String, Object> summary = (Map<String, Object>) report.get(endpoint);
+            System.out.printf("%-32s %10d %10.1f/s %10.2f %10.2f %10.2f %10.2f  %s%n", endpoint,
+                    summary.get("requests"), summary.get("throughput"), summary.get("p50"), summary.get("p99"),
+                    summary.get("p999"), summary.get("max"), summary.get("statuses"));
+            if (baseline != null && baseline.get(endpoint) instanceof Map<?, ?> previous) {
+                System.out.printf("%-32s %10s %11s %10s %10s %10s %10s%n", "  vs baseline", "",
+                        change(summary, previous, "throughput"), change(summary, previous, "p50"),
+                        change(summary, previous, "p99"), change(summary, previous, "p999"), change(summary, previous, "max"));
+            }
+        }
+    }
+
+    private static String change(Map<String, Object> current, Map<?, ?> previous, String metric) {
+        double before = ((Number) previous.get(metric)).doubleValue();
+        double after = ((Number) current.get(metric)).doubleValue();
+        return before == 0 ? "n/a" : String.format("%+.1f%%", 100 * (after - before) / before);
+    }
+}
@@ -2,13 +2,22 @@ package com.zenika.meetingplanner;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
 
 @SpringBootApplication
 @ComponentScan("com.zenika.meetingplanner")
+@EnableScheduling
 public class MeetingplannerApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(MeetingplannerApplication.class, args);
 	}
 
+	@Bean
+	public Clock clock() {
+		return Clock.systemDefaultZone();
+	}
 }
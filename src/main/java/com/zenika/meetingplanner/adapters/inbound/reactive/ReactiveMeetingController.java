@@ -0,0 +1,175 @@
+package com.zenika.meetingplanner.adapters.inbound.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenika.meetingplanner.adapters.inbound.rest.MeetingImportReader;
+import com.zenika.meetingplanner.application.usecases.AssignMeetingToBestRoomUseCase;
+import com.zenika.meetingplanner.application.usecases.AssignMeetingsInBatchUseCase;
+import com.zenika.meetingplanner.application.usecases.ExportMeetingsUseCase;
+import com.zenika.meetingplanner.application.usecases.ImportMeetingsUseCase;
+import com.zenika.meetingplanner.common.dtos.MeetingAssignmentResultDto;
+import com.zenika.meetingplanner.common.dtos.MeetingImportReportDto;
+import com.zenika.meetingplanner.common.dtos.MeetingImportRowDto;
+import com.zenika.meetingplanner.common.dtos.MeetingRequestDto;
+import com.zenika.meetingplanner.common.dtos.MeetingResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Stream;
+
+/**
+ * WebFlux twin of the meeting endpoints, served under the {@code reactive} profile.
+ * The use cases stay blocking, so each call runs on the bounded elastic scheduler, off the event loop.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/meetings")
+public class ReactiveMeetingController {
+
+    private final AssignMeetingToBestRoomUseCase assignMeetingToBestRoomUseCase;
+    private final AssignMeetingsInBatchUseCase assignMeetingsInBatchUseCase;
+    private final ExportMeetingsUseCase exportMeetingsUseCase;
+    private final ImportMeetingsUseCase importMeetingsUseCase;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ReactiveMeetingController(AssignMeetingToBestRoomUseCase assignMeetingToBestRoomUseCase, AssignMeetingsInBatchUseCase assignMeetingsInBatchUseCase,
+                                     ExportMeetingsUseCase exportMeetingsUseCase, ImportMeetingsUseCase importMeetingsUseCase, ObjectMapper objectMapper) {
+        this.assignMeetingToBestRoomUseCase = assignMeetingToBestRoomUseCase;
+        this.assignMeetingsInBatchUseCase = assignMeetingsInBatchUseCase;
+        this.exportMeetingsUseCase = exportMeetingsUseCase;
+        this.importMeetingsUseCase = importMeetingsUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Endpoint to assign a meeting to the best available room and save it.
+     *
+     * @param requestDto The meeting creation request details.
+     * @return The saved meeting's details in a response DTO.
+     */
+    @PostMapping("/assign-to-best-room")
+    public Mono<MeetingResponseDto> assignMeetingToBestRoom(@RequestBody MeetingRequestDto requestDto) {
+        return Mono.fromCallable(() -> assignMeetingToBestRoomUseCase.execute(requestDto))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Endpoint to assign a list of meetings to their best available rooms and save them together.
+     *
+     * @param requestDtos The meeting creation requests, assigned in order.
+     * @return One result per request, with the saved meeting or the reason it was not assigned.
+     */
+    @PostMapping("/assign-batch")
+    public Mono<List<MeetingAssignmentResultDto>> assignMeetingsInBatch(@RequestBody List<MeetingRequestDto> requestDtos) {
+        return Mono.fromCallable(() -> assignMeetingsInBatchUseCase.execute(requestDtos))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Endpoint to export every meeting of a date range as newline-delimited JSON.
+     * Meetings are read only as fast as the client takes them, so memory does not grow with the range.
+     *
+     * @param from The first date, included.
+     * @param to   The last date, included.
+     * @return The meetings, one per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<MeetingResponseDto> exportMeetings(@RequestParam String from, @RequestParam String to) {
+        LocalDate fromDate = LocalDate.parse(from);
+        LocalDate toDate = LocalDate.parse(to);
+        exportMeetingsUseCase.checkRange(fromDate, toDate);
+
+        return Flux.<MeetingResponseDto>create(sink -> {
+            Demand demand = new Demand();
+            sink.onRequest(demand::add);
+            sink.onCancel(demand::cancel);
+            try {
+                exportMeetingsUseCase.execute(fromDate, toDate, meeting -> {
+                    demand.take();
+                    sink.next(meeting);
+                });
+                sink.complete();
+            } catch (RuntimeException e) {
+                if (!sink.isCancelled()) {
+                    sink.error(e);
+                }
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Endpoint to import already booked meetings from a CSV upload, with the columns
+     * meetingType, participantCount, meetingDate, meetingHour and roomName.
+     *
+     * @param lines The uploaded file, read line by line.
+     * @return The import report.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public Mono<MeetingImportReportDto> importMeetingsFromCsv(@RequestBody Flux<String> lines) {
+        return Mono.fromCallable(() -> {
+            try (Stream<MeetingImportRowDto> rows = MeetingImportReader.fromCsv(lines.toStream())) {
+                return importMeetingsUseCase.execute(rows);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Endpoint to import already booked meetings from newline-delimited JSON, one meeting per line.
+     *
+     * @param lines The uploaded file, read line by line.
+     * @return The import report.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<MeetingImportReportDto> importMeetingsFromNdjson(@RequestBody Flux<String> lines) {
+        return Mono.fromCallable(() -> {
+            try (Stream<MeetingImportRowDto> rows = MeetingImportReader.fromNdjson(lines.toStream(), objectMapper)) {
+                return importMeetingsUseCase.execute(rows);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Counts the meetings the client has asked for, so that the export thread waits instead of buffering.
+     */
+    private static final class Demand {
+
+        private long requested;
+        private boolean cancelled;
+
+        synchronized void add(long count) {
+            requested = Long.MAX_VALUE - requested < count ? Long.MAX_VALUE : requested + count;
+            notifyAll();
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        synchronized void take() {
+            while (requested == 0 && !cancelled) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelled = true;
+                }
+            }
+            if (cancelled) {
+                // Stops reading the range
+                throw new CancellationException("The export was cancelled.");
+            }
+            if (requested != Long.MAX_VALUE) {
+                requested--;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.zenika.meetingplanner.adapters.inbound.reactive;
+
+import com.zenika.meetingplanner.application.usecases.GetAvailabilityCalendarUseCase;
+import com.zenika.meetingplanner.application.usecases.GetBestRoomWithAvailableHoursUseCase;
+import com.zenika.meetingplanner.application.usecases.GetEarliestSlotsUseCase;
+import com.zenika.meetingplanner.common.dtos.AvailabilityCalendarDto;
+import com.zenika.meetingplanner.common.dtos.EarliestSlotsDto;
+import com.zenika.meetingplanner.common.dtos.RoomWithAvailableHoursDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+
+/**
+ * WebFlux twin of the room endpoints, served under the {@code reactive} profile.
+ * The use cases stay blocking, so each call runs on the bounded elastic scheduler, off the event loop.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/rooms")
+public class ReactiveRoomController {
+
+    private final GetBestRoomWithAvailableHoursUseCase getBestRoomWithAvailableHoursUseCase;
+
+    private final GetAvailabilityCalendarUseCase getAvailabilityCalendarUseCase;
+
+    private final GetEarliestSlotsUseCase getEarliestSlotsUseCase;
+
+    @Autowired
+    public ReactiveRoomController(GetBestRoomWithAvailableHoursUseCase getBestRoomWithAvailableHoursUseCase, GetAvailabilityCalendarUseCase getAvailabilityCalendarUseCase,
+                                  GetEarliestSlotsUseCase getEarliestSlotsUseCase) {
+        this.getBestRoomWithAvailableHoursUseCase = getBestRoomWithAvailableHoursUseCase;
+        this.getAvailabilityCalendarUseCase = getAvailabilityCalendarUseCase;
+        this.getEarliestSlotsUseCase = getEarliestSlotsUseCase;
+    }
+
+    /**
+     * Endpoint to get the best room for a given meeting type and capacity, along with available hours.
+     *
+     * @param meetingType      The meeting type (e.g., VIDEO_CONFERENCE).
+     * @param requiredCapacity The required capacity for the meeting.
+     * @param meetingDate      The date for which to check room availability.
+     * @param durationMinutes  The length of the meeting in minutes, one hour by default.
+     * @return RoomWithAvailableHoursDto containing the best room and its available hours.
+     */
+    @GetMapping("/best-room-with-available-hours")
+    public Mono<RoomWithAvailableHoursDto> getBestRoomWithAvailableHours(
+            @RequestParam String meetingType,
+            @RequestParam int requiredCapacity,
+            @RequestParam String meetingDate,
+            @RequestParam(defaultValue = "60") int durationMinutes) {
+
+        return Mono.fromCallable(() -> getBestRoomWithAvailableHoursUseCase.execute(meetingType, requiredCapacity, LocalDate.parse(meetingDate), durationMinutes))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Endpoint to get the best room of every hour of every day in a date range.
+     *
+     * @param meetingType      The meeting type (e.g., VIDEO_CONFERENCE).
+     * @param requiredCapacity The required capacity for the meeting.
+     * @param startDate        The first day of the range.
+     * @param endDate          The last day of the range, included.
+     * @return AvailabilityCalendarDto containing the best room per day and hour.
+     */
+    @GetMapping("/availability-calendar")
+    public Mono<AvailabilityCalendarDto> getAvailabilityCalendar(
+            @RequestParam String meetingType,
+            @RequestParam int requiredCapacity,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+
+        return Mono.fromCallable(() -> getAvailabilityCalendarUseCase.execute(meetingType, requiredCapacity, LocalDate.parse(startDate), LocalDate.parse(endDate)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Endpoint to get the earliest slots, from a start date onwards, where a meeting can be booked.
+     *
+     * @param meetingType      The meeting type (e.g., VIDEO_CONFERENCE).
+     * @param requiredCapacity The required capacity for the meeting.
+     * @param startDate        The first day to search.
+     * @param count            The number of slots to return, five by default.
+     * @param durationMinutes  The length of the meeting in minutes, one hour by default.
+     * @return EarliestSlotsDto containing the earliest slots, each with the best room free at that time.
+     */
+    @GetMapping("/earliest-slots")
+    public Mono<EarliestSlotsDto> getEarliestSlots(
+            @RequestParam String meetingType,
+            @RequestParam int requiredCapacity,
+            @RequestParam String startDate,
+            @RequestParam(defaultValue = "5") int count,
+            @RequestParam(defaultValue = "60") int durationMinutes) {
+
+        return Mono.fromCallable(() -> getEarliestSlotsUseCase.execute(meetingType, requiredCapacity, LocalDate.parse(startDate), count, durationMinutes))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
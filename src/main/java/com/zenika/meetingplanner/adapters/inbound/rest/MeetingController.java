@@ -1,21 +1,52 @@
 package com.zenika.meetingplanner.adapters.inbound.rest;
 
 import com.zenika.meetingplanner.application.usecases.AssignMeetingToBestRoomUseCase;
+import com.zenika.meetingplanner.application.usecases.AssignMeetingsInBatchUseCase;
+import com.zenika.meetingplanner.application.usecases.ExportMeetingsUseCase;
+import com.zenika.meetingplanner.application.usecases.ImportMeetingsUseCase;
+import com.zenika.meetingplanner.common.dtos.MeetingAssignmentResultDto;
+import com.zenika.meetingplanner.common.dtos.MeetingImportReportDto;
+import com.zenika.meetingplanner.common.dtos.MeetingImportRowDto;
 import com.zenika.meetingplanner.common.dtos.MeetingRequestDto;
 import com.zenika.meetingplanner.common.dtos.MeetingResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/meetings")
 public class MeetingController {
 
     private final AssignMeetingToBestRoomUseCase assignMeetingToBestRoomUseCase;
+    private final AssignMeetingsInBatchUseCase assignMeetingsInBatchUseCase;
+    private final ExportMeetingsUseCase exportMeetingsUseCase;
+    private final ImportMeetingsUseCase importMeetingsUseCase;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public MeetingController(AssignMeetingToBestRoomUseCase assignMeetingToBestRoomUseCase) {
+    public MeetingController(AssignMeetingToBestRoomUseCase assignMeetingToBestRoomUseCase, AssignMeetingsInBatchUseCase assignMeetingsInBatchUseCase,
+                             ExportMeetingsUseCase exportMeetingsUseCase, ImportMeetingsUseCase importMeetingsUseCase, ObjectMapper objectMapper) {
         this.assignMeetingToBestRoomUseCase = assignMeetingToBestRoomUseCase;
+        this.assignMeetingsInBatchUseCase = assignMeetingsInBatchUseCase;
+        this.exportMeetingsUseCase = exportMeetingsUseCase;
+        this.importMeetingsUseCase = importMeetingsUseCase;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -29,4 +60,76 @@ public class MeetingController {
         return ResponseEntity.ok().body(
                 assignMeetingToBestRoomUseCase.execute(requestDto));
     }
+
+    /**
+     * Endpoint to assign a list of meetings to their best available rooms and save them together.
+     *
+     * @param requestDtos The meeting creation requests, assigned in order.
+     * @return One result per request, with the saved meeting or the reason it was not assigned.
+     */
+    @PostMapping("/assign-batch")
+    public ResponseEntity<List<MeetingAssignmentResultDto>> assignMeetingsInBatch(@RequestBody List<MeetingRequestDto> requestDtos) {
+        return ResponseEntity.ok().body(
+                assignMeetingsInBatchUseCase.execute(requestDtos));
+    }
+
+    /**
+     * Endpoint to export every meeting of a date range as newline-delimited JSON.
+     * Meetings are written to the response as they are read, so memory does not grow with the range.
+     *
+     * @param from The first date, included.
+     * @param to   The last date, included.
+     * @return A streamed body with one meeting per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMeetings(@RequestParam String from, @RequestParam String to) {
+        LocalDate fromDate = LocalDate.parse(from);
+        LocalDate toDate = LocalDate.parse(to);
+        exportMeetingsUseCase.checkRange(fromDate, toDate);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                exportMeetingsUseCase.execute(fromDate, toDate, meeting -> {
+                    try {
+                        generator.writeObject(meeting);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Endpoint to import already booked meetings from a CSV upload, with the columns
+     * meetingType, participantCount, meetingDate, meetingHour and roomName.
+     *
+     * @param body The uploaded file, read line by line.
+     * @return The import report.
+     * @throws IOException If the upload cannot be read.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<MeetingImportReportDto> importMeetingsFromCsv(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+             Stream<MeetingImportRowDto> rows = MeetingImportReader.fromCsv(reader.lines())) {
+            return ResponseEntity.ok().body(importMeetingsUseCase.execute(rows));
+        }
+    }
+
+    /**
+     * Endpoint to import already booked meetings from newline-delimited JSON, one meeting per line.
+     *
+     * @param body The uploaded file, read line by line.
+     * @return The import report.
+     * @throws IOException If the upload cannot be read.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<MeetingImportReportDto> importMeetingsFromNdjson(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+             Stream<MeetingImportRowDto> rows = MeetingImportReader.fromNdjson(reader.lines(), objectMapper)) {
+            return ResponseEntity.ok().body(importMeetingsUseCase.execute(rows));
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.zenika.meetingplanner.adapters.inbound.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenika.meetingplanner.common.dtos.MeetingImportRowDto;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Reads uploaded meeting rows lazily, one line at a time.
+ * A line that cannot be parsed is returned with only its line number, so that it is reported as malformed.
+ */
+public final class MeetingImportReader {
+
+    public static final String CSV_HEADER = "meetingType,participantCount,meetingDate,meetingHour,roomName,durationMinutes";
+
+    private MeetingImportReader() {
+    }
+
+    /**
+     * Reads CSV rows with the columns of {@link #CSV_HEADER}; the header line itself is optional.
+     * The last column may be left out or empty, for a one-hour meeting.
+     *
+     * @param lines The lines of the uploaded body.
+     * @return The rows, read as the stream is consumed.
+     */
+    public static Stream<MeetingImportRowDto> fromCsv(Stream<String> lines) {
+        AtomicLong lineNumber = new AtomicLong();
+        return lines
+                .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+                .filter(line -> !line.text().isBlank() && !(line.number() == 1 && line.text().startsWith("meetingType")))
+                .map(MeetingImportReader::parseCsv);
+    }
+
+    /**
+     * Reads one JSON object per line, with the fields of {@link MeetingImportRowDto}.
+     *
+     * @param lines        The lines of the uploaded body.
+     * @param objectMapper The mapper reading each line.
+     * @return The rows, read as the stream is consumed.
+     */
+    public static Stream<MeetingImportRowDto> fromNdjson(Stream<String> lines, ObjectMapper objectMapper) {
+        AtomicLong lineNumber = new AtomicLong();
+        return lines
+                .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+                .filter(line -> !line.text().isBlank())
+                .map(line -> {
+                    try {
+                        MeetingImportRowDto row = objectMapper.readValue(line.text(), MeetingImportRowDto.class);
+                        row.setLine(line.number());
+                        return row;
+                    } catch (JsonProcessingException e) {
+                        return MeetingImportRowDto.builder().line(line.number()).build();
+                    }
+                });
+    }
+
+    private static MeetingImportRowDto parseCsv(NumberedLine line) {
+        String[] fields = line.text().split(",", -1);
+        if (fields.length != 5 && fields.length != 6) {
+            return MeetingImportRowDto.builder().line(line.number()).build();
+        }
+        Integer durationMinutes = null;
+        if (fields.length == 6 && !fields[5].isBlank()) {
+            durationMinutes = parseInteger(fields[5]);
+            if (durationMinutes == null) {
+                return MeetingImportRowDto.builder().line(line.number()).build();
+            }
+        }
+        return MeetingImportRowDto.builder()
+                .line(line.number())
+                .meetingType(fields[0].trim())
+                .participantCount(parseInteger(fields[1]))
+                .meetingDate(fields[2].trim())
+                .meetingHour(parseInteger(fields[3]))
+                .roomName(fields[4].trim())
+                .durationMinutes(durationMinutes)
+                .build();
+    }
+
+    private static Integer parseInteger(String field) {
+        try {
+            return Integer.valueOf(field.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record NumberedLine(long number, String text) {
+    }
+}
@@ -1,22 +1,35 @@
 package com.zenika.meetingplanner.adapters.inbound.rest;
 
+import com.zenika.meetingplanner.application.usecases.GetAvailabilityCalendarUseCase;
 import com.zenika.meetingplanner.application.usecases.GetBestRoomWithAvailableHoursUseCase;
+import com.zenika.meetingplanner.application.usecases.GetEarliestSlotsUseCase;
+import com.zenika.meetingplanner.common.dtos.AvailabilityCalendarDto;
+import com.zenika.meetingplanner.common.dtos.EarliestSlotsDto;
 import com.zenika.meetingplanner.common.dtos.RoomWithAvailableHoursDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/rooms")
 public class RoomController {
 
     private final GetBestRoomWithAvailableHoursUseCase getBestRoomWithAvailableHoursUseCase;
 
+    private final GetAvailabilityCalendarUseCase getAvailabilityCalendarUseCase;
+
+    private final GetEarliestSlotsUseCase getEarliestSlotsUseCase;
+
     @Autowired
-    public RoomController(GetBestRoomWithAvailableHoursUseCase getBestRoomWithAvailableHoursUseCase) {
+    public RoomController(GetBestRoomWithAvailableHoursUseCase getBestRoomWithAvailableHoursUseCase, GetAvailabilityCalendarUseCase getAvailabilityCalendarUseCase,
+                          GetEarliestSlotsUseCase getEarliestSlotsUseCase) {
         this.getBestRoomWithAvailableHoursUseCase = getBestRoomWithAvailableHoursUseCase;
+        this.getAvailabilityCalendarUseCase = getAvailabilityCalendarUseCase;
+        this.getEarliestSlotsUseCase = getEarliestSlotsUseCase;
     }
 
     /**
@@ -25,19 +38,65 @@ public class RoomController {
      * @param meetingType      The meeting type (e.g., VIDEO_CONFERENCE).
      * @param requiredCapacity The required capacity for the meeting.
      * @param meetingDate      The date for which to check room availability.
+     * @param durationMinutes  The length of the meeting in minutes, one hour by default.
      * @return RoomWithAvailableHoursDto containing the best room and its available hours.
      */
     @GetMapping("/best-room-with-available-hours")
     public ResponseEntity<RoomWithAvailableHoursDto> getBestRoomWithAvailableHours(
             @RequestParam String meetingType,
             @RequestParam int requiredCapacity,
-            @RequestParam String meetingDate) {
+            @RequestParam String meetingDate,
+            @RequestParam(defaultValue = "60") int durationMinutes) {
 
         // Convert meetingDate from String to LocalDate
         LocalDate date = LocalDate.parse(meetingDate);
 
         // Call the use case and return the result
         return ResponseEntity.ok().body(
-                getBestRoomWithAvailableHoursUseCase.execute(meetingType, requiredCapacity, date));
+                getBestRoomWithAvailableHoursUseCase.execute(meetingType, requiredCapacity, date, durationMinutes));
+    }
+
+    /**
+     * Endpoint to get the best room of every hour of every day in a date range.
+     *
+     * @param meetingType      The meeting type (e.g., VIDEO_CONFERENCE).
+     * @param requiredCapacity The required capacity for the meeting.
+     * @param startDate        The first day of the range.
+     * @param endDate          The last day of the range, included.
+     * @return AvailabilityCalendarDto containing the best room per day and hour.
+     */
+    @GetMapping("/availability-calendar")
+    public ResponseEntity<AvailabilityCalendarDto> getAvailabilityCalendar(
+            @RequestParam String meetingType,
+            @RequestParam int requiredCapacity,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+
+        // Call the use case with the parsed dates and return the result
+        return ResponseEntity.ok().body(
+                getAvailabilityCalendarUseCase.execute(meetingType, requiredCapacity, LocalDate.parse(startDate), LocalDate.parse(endDate)));
+    }
+
+    /**
+     * Endpoint to get the earliest slots, from a start date onwards, where a meeting can be booked.
+     *
+     * @param meetingType      The meeting type (e.g., VIDEO_CONFERENCE).
+     * @param requiredCapacity The required capacity for the meeting.
+     * @param startDate        The first day to search.
+     * @param count            The number of slots to return, five by default.
+     * @param durationMinutes  The length of the meeting in minutes, one hour by default.
+     * @return EarliestSlotsDto containing the earliest slots, each with the best room free at that time.
+     */
+    @GetMapping("/earliest-slots")
+    public ResponseEntity<EarliestSlotsDto> getEarliestSlots(
+            @RequestParam String meetingType,
+            @RequestParam int requiredCapacity,
+            @RequestParam String startDate,
+            @RequestParam(defaultValue = "5") int count,
+            @RequestParam(defaultValue = "60") int durationMinutes) {
+
+        // Call the use case with the parsed date and return the result
+        return ResponseEntity.ok().body(
+                getEarliestSlotsUseCase.execute(meetingType, requiredCapacity, LocalDate.parse(startDate), count, durationMinutes));
     }
 }
@@ -0,0 +1,29 @@
+package com.zenika.meetingplanner.adapters.inbound.scheduling;
+
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Drops the past and idle dates from the in-memory room schedules, on the
+ * {@code meetingplanner.availability.eviction-interval} period, so that they do not grow with every date queried.
+ */
+@Component
+public class AvailabilityEvictionJob {
+
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final Clock clock;
+
+    public AvailabilityEvictionJob(RoomAvailabilityIndex roomAvailabilityIndex, Clock clock) {
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${meetingplanner.availability.eviction-interval:PT1M}")
+    public void evictStaleDates() {
+        roomAvailabilityIndex.evict(LocalDate.now(clock));
+    }
+}
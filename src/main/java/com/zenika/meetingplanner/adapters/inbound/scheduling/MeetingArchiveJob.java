@@ -0,0 +1,30 @@
+package com.zenika.meetingplanner.adapters.inbound.scheduling;
+
+import com.zenika.meetingplanner.application.usecases.ArchivePastMeetingsUseCase;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Runs the meeting archive every night, on the {@code meetingplanner.archive.cron} schedule.
+ */
+@Component
+@Profile("!in-memory")
+public class MeetingArchiveJob {
+
+    private final ArchivePastMeetingsUseCase archivePastMeetingsUseCase;
+    private final Clock clock;
+
+    public MeetingArchiveJob(ArchivePastMeetingsUseCase archivePastMeetingsUseCase, Clock clock) {
+        this.archivePastMeetingsUseCase = archivePastMeetingsUseCase;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${meetingplanner.archive.cron:0 30 2 * * *}")
+    public void archivePastMeetings() {
+        archivePastMeetingsUseCase.execute(LocalDate.now(clock));
+    }
+}
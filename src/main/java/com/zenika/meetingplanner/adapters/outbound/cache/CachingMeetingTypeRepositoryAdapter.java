@@ -0,0 +1,180 @@
+package com.zenika.meetingplanner.adapters.outbound.cache;
+
+import com.zenika.meetingplanner.adapters.outbound.jpa.MeetingTypeRepositoryAdapter;
+import com.zenika.meetingplanner.application.events.CatalogChangedEvent;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.domain.MeetingType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the meeting type catalog in front of the JPA adapter.
+ * The catalog is preloaded at startup, holds at most {@code maxSize} types (oldest entries are evicted first)
+ * and is reloaded on every {@link CatalogChangedEvent}, including the changes of other instances and scripts seen
+ * in the catalog version row. Entries can also be dropped through {@link #invalidate(String)} and
+ * {@link #invalidateAll()}.
+ * Cached instances are shared between requests and must be treated as read-only.
+ * Hits, misses and size are published as {@code meetingplanner.meeting-type-cache.*} metrics.
+ */
+@Service
+@Profile("!in-memory")
+@Primary
+public class CachingMeetingTypeRepositoryAdapter implements MeetingTypeRepositoryPort, ApplicationRunner, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingMeetingTypeRepositoryAdapter.class);
+
+    private final MeetingTypeRepositoryAdapter delegate;
+    private final int maxSize;
+
+    private final Map<String, MeetingType> meetingTypesByName = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @Autowired
+    public CachingMeetingTypeRepositoryAdapter(MeetingTypeRepositoryAdapter delegate,
+                                               @Value("${meetingplanner.meeting-type-cache.max-size:64}") int maxSize) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Preloads the meeting type catalog once the application has started.
+     *
+     * @param args The application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        delegate.findAll().forEach(this::put);
+        logger.info("Preloaded {} meeting types", meetingTypesByName.size());
+    }
+
+    /**
+     * Finds a meeting type by its name, from the cache when possible.
+     *
+     * @param meetingTypeName The name of the meeting type to search for.
+     * @return An Optional containing the MeetingType domain model.
+     */
+    @Override
+    public Optional<MeetingType> findByName(String meetingTypeName) {
+        MeetingType cached = meetingTypesByName.get(meetingTypeName);
+        if (cached != null) {
+            hitCount.increment();
+            return Optional.of(cached);
+        }
+
+        missCount.increment();
+        Optional<MeetingType> meetingType = delegate.findByName(meetingTypeName);
+        meetingType.ifPresent(this::put);
+        return meetingType;
+    }
+
+    /**
+     * Finds all meeting types from the repository and refreshes the cache with them.
+     *
+     * @return The list of MeetingType domain models.
+     */
+    @Override
+    public List<MeetingType> findAll() {
+        List<MeetingType> meetingTypes = delegate.findAll();
+        meetingTypes.forEach(this::put);
+        return meetingTypes;
+    }
+
+    /**
+     * Evicts a meeting type so that the next lookup reads it from the repository.
+     *
+     * @param meetingTypeName The name of the meeting type to evict.
+     */
+    public void invalidate(String meetingTypeName) {
+        meetingTypesByName.remove(meetingTypeName);
+        insertionOrder.remove(meetingTypeName);
+    }
+
+    /**
+     * Evicts every cached meeting type.
+     */
+    public void invalidateAll() {
+        meetingTypesByName.clear();
+        insertionOrder.clear();
+    }
+
+    /**
+     * Reloads the cached meeting types once a catalog change is committed, so that lookups do not all miss at once.
+     * If the reload fails, the cache stays empty and fills again on the next lookups.
+     *
+     * @param event The catalog change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        invalidateAll();
+        try {
+            delegate.findAll().forEach(this::put);
+        } catch (RuntimeException e) {
+            logger.warn("Could not reload the meeting types after a change of {}", event.source(), e);
+        }
+    }
+
+    /**
+     * Publishes the hit and miss counters and the size of the cache.
+     *
+     * @param registry The registry to bind the metrics to.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("meetingplanner.meeting-type-cache.requests", hitCount, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("meetingplanner.meeting-type-cache.requests", missCount, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("meetingplanner.meeting-type-cache.size", meetingTypesByName, Map::size)
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int getSize() {
+        return meetingTypesByName.size();
+    }
+
+    private void put(MeetingType meetingType) {
+        if (meetingTypesByName.put(meetingType.getName(), meetingType) == null) {
+            insertionOrder.add(meetingType.getName());
+        }
+        while (meetingTypesByName.size() > maxSize) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            meetingTypesByName.remove(eldest);
+        }
+    }
+}
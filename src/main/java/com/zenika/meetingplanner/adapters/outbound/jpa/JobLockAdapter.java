@@ -0,0 +1,59 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa;
+
+import com.zenika.meetingplanner.application.ports.JobLockPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Locks shared by every instance through the rows of the job_locks table.
+ * A lock is taken by a conditional update, so only one instance wins it, and it expires on its own if its holder
+ * dies before releasing it.
+ */
+@Service
+@Profile("!in-memory")
+public class JobLockAdapter implements JobLockPort {
+
+    private static final String LOCK_SQL =
+            "update job_locks set locked_until = ?, locked_by = ? where name = ? and locked_until <= ?";
+    private static final String UNLOCK_SQL =
+            "update job_locks set locked_until = ? where name = ? and locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final String instanceName = ManagementFactory.getRuntimeMXBean().getName();
+
+    public JobLockAdapter(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a lock if it is free or its previous holder let it expire.
+     *
+     * @param name          The name of the lock, a row of the job_locks table.
+     * @param lockAtMostFor How long the lock is held if it is never released.
+     * @return True if this instance now holds the lock, false otherwise.
+     */
+    @Override
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        Instant now = clock.instant();
+        return jdbcTemplate.update(LOCK_SQL, Timestamp.from(now.plus(lockAtMostFor)), instanceName, name, Timestamp.from(now)) == 1;
+    }
+
+    /**
+     * Releases a lock held by this instance.
+     *
+     * @param name The name of the lock.
+     */
+    @Override
+    public void unlock(String name) {
+        jdbcTemplate.update(UNLOCK_SQL, Timestamp.from(clock.instant()), name, instanceName);
+    }
+}
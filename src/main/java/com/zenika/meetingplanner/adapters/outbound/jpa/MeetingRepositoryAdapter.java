@@ -1,80 +1,278 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa;
 
 import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
+import com.zenika.meetingplanner.adapters.outbound.jpa.mappers.JpaDomainMapper;
 import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingRepository;
 import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingTypeRepository;
 import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaRoomRepository;
 import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.HourSlots;
 import com.zenika.meetingplanner.domain.Meeting;
-import org.modelmapper.ModelMapper;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Service
+@Profile("!in-memory")
 public class MeetingRepositoryAdapter implements MeetingRepositoryPort {
 
+    private static final String INSERT_MEETING_SQL =
+            "insert into meetings (date, hour, duration_minutes, participant_count, meeting_type_id, room_id) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SLOT_CLAIM_SQL =
+            "insert into room_slot_claims (room_id, date, hour) values (?, ?, ?)";
+    private static final String EXPORT_MEETINGS_SQL =
+            "select m.date, m.hour, m.duration_minutes, m.participant_count, t.name as type_name, r.id as room_id, r.name as room_name"
+                    + " from meetings m"
+                    + " left join meeting_types t on t.id = m.meeting_type_id"
+                    + " left join rooms r on r.id = m.room_id"
+                    + " where m.date between ? and ?"
+                    + " order by m.date, m.hour, m.id";
+    private static final String SELECT_ARCHIVABLE_IDS_SQL =
+            "select id from meetings where date < ? order by id limit ?";
+    private static final String ARCHIVE_MEETINGS_SQL =
+            "insert into meetings_archive (id, date, hour, duration_minutes, participant_count, meeting_type_id, room_id)"
+                    + " select id, date, hour, duration_minutes, participant_count, meeting_type_id, room_id from meetings where id in (%s)";
+    private static final String DELETE_MEETINGS_SQL =
+            "delete from meetings where id in (%s)";
+    private static final String SELECT_PAST_SLOT_CLAIM_IDS_SQL =
+            "select id from room_slot_claims where date < ? order by id limit ?";
+    private static final String DELETE_SLOT_CLAIMS_SQL =
+            "delete from room_slot_claims where id in (%s)";
+    private static final int BATCH_SIZE = 100;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
     private final JpaMeetingRepository jpaMeetingRepository;
     private final JpaRoomRepository jpaRoomRepository;
     private final JpaMeetingTypeRepository jpaMeetingTypeRepository;
-    private final ModelMapper modelMapper;
+    private final JpaDomainMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final int bufferMinutes;
 
     @Autowired
-    public MeetingRepositoryAdapter(JpaMeetingRepository jpaMeetingRepository, JpaRoomRepository jpaRoomRepository, JpaMeetingTypeRepository jpaMeetingTypeRepository, ModelMapper modelMapper) {
+    public MeetingRepositoryAdapter(JpaMeetingRepository jpaMeetingRepository, JpaRoomRepository jpaRoomRepository, JpaMeetingTypeRepository jpaMeetingTypeRepository, JpaDomainMapper mapper, JdbcTemplate jdbcTemplate,
+                                    @Value("${meetingplanner.booking.buffer-minutes:60}") int bufferMinutes) {
         this.jpaMeetingRepository = jpaMeetingRepository;
         this.jpaRoomRepository = jpaRoomRepository;
         this.jpaMeetingTypeRepository = jpaMeetingTypeRepository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bufferMinutes = bufferMinutes;
     }
 
     /**
-     * Saves a Meeting domain model as a JpaMeeting entity in the database.
+     * Saves a Meeting domain model as a JpaMeeting entity in the database, with the room slots it claims.
      *
      * @param meeting The Meeting domain model to save.
      * @return The saved Meeting domain model.
+     * @throws RoomSlotTakenException If a concurrent booking already claimed the room at an overlapping time.
      */
     @Override
+    @Transactional
     public Meeting save(Meeting meeting) {
         // Convert domain Meeting to JPA entity
-        JpaMeeting jpaMeeting = convertToEntity(meeting);
+        JpaMeeting jpaMeeting = mapper.toEntity(meeting);
 
-        // Check if the meeting type is not null and set it if present
-        if (meeting.getType() != null && meeting.getType().getName() != null) {
+        // Reference the meeting type by id when known, without loading it, or look it up by name
+        if (meeting.getType() != null && meeting.getType().getId() != null) {
+            jpaMeeting.setType(jpaMeetingTypeRepository.getReferenceById(meeting.getType().getId()));
+        } else if (meeting.getType() != null && meeting.getType().getName() != null) {
             jpaMeeting.setType(
                     jpaMeetingTypeRepository.findByName(meeting.getType().getName()).orElse(null)
             );
         }
 
-        // Check if the meeting room is not null and set it if present
+        // Reference the room by id, without loading it
         if (meeting.getRoom() != null && meeting.getRoom().getId() != null) {
-            jpaMeeting.setRoom(
-                    jpaRoomRepository.findById(meeting.getRoom().getId()).orElse(null)
-            );
+            jpaMeeting.setRoom(jpaRoomRepository.getReferenceById(meeting.getRoom().getId()));
         }
 
-        // Save the JPA entity
+        // Save the JPA entity, then claim its room slots; a conflict rolls both back
         JpaMeeting savedJpaMeeting = jpaMeetingRepository.save(jpaMeeting);
+        claimSlots(List.of(meeting));
+
+        // Convert saved JPA entity back to domain Meeting, reusing the type and room it was saved with
+        return mapper.toDomain(savedJpaMeeting, meeting.getType(), meeting.getRoom());
+    }
+
+    /**
+     * Saves meetings and the room slots they claim with JDBC batch inserts, in a single transaction
+     * and without loading any entity.
+     *
+     * @param meetings The meetings to save, each with a type id and a room id.
+     * @return The saved meetings.
+     * @throws RoomSlotTakenException If a concurrent booking already claimed one of the rooms at an overlapping hour.
+     */
+    @Override
+    @Transactional
+    public List<Meeting> saveAll(List<Meeting> meetings) {
+        insertMeetings(meetings);
+        claimSlots(meetings);
+        return meetings;
+    }
 
-        // Convert saved JPA entity back to domain Meeting
-        return convertToDomain(savedJpaMeeting);
+    /**
+     * Saves meetings of archived dates with JDBC batch inserts, in a single transaction.
+     * Their room slots are not claimed: archived dates cannot be booked, and the archive job would delete the claims.
+     *
+     * @param meetings The meetings to save, each with a type id and a room id.
+     * @return The saved meetings.
+     */
+    @Override
+    @Transactional
+    public List<Meeting> saveAllUnclaimed(List<Meeting> meetings) {
+        insertMeetings(meetings);
+        return meetings;
+    }
+
+    private void insertMeetings(List<Meeting> meetings) {
+        jdbcTemplate.batchUpdate(INSERT_MEETING_SQL, meetings, BATCH_SIZE, (ps, meeting) -> {
+            ps.setDate(1, Date.valueOf(meeting.getDate()));
+            ps.setInt(2, meeting.getHour());
+            ps.setInt(3, meeting.getDurationMinutes());
+            ps.setInt(4, meeting.getParticipantCount());
+            ps.setLong(5, meeting.getType().getId());
+            ps.setLong(6, meeting.getRoom().getId());
+        });
     }
 
     /**
-     * Converts a Meeting domain model to a JpaMeeting entity using ModelMapper.
+     * Claims every hour the meeting and the cleaning buffer after it touch.
+     * Two meetings too close to each other always touch a common hour, so the unique key on the claims rejects them,
+     * whichever application instance saved them.
      *
-     * @param meeting The domain model to convert.
-     * @return The corresponding JpaMeeting entity.
+     * @param meetings The meetings being saved.
      */
-    private JpaMeeting convertToEntity(Meeting meeting) {
-        return modelMapper.map(meeting, JpaMeeting.class);
+    private void claimSlots(List<Meeting> meetings) {
+        List<SlotClaim> claims = new ArrayList<>(meetings.size() * 2);
+        for (Meeting meeting : meetings) {
+            if (meeting.getRoom() != null && meeting.getRoom().getId() != null) {
+                int hours = HourSlots.span(meeting.getStartMinute(), meeting.getEndMinute() + bufferMinutes);
+                for (int hour : HourSlots.toList(hours)) {
+                    claims.add(new SlotClaim(meeting.getRoom().getId(), meeting.getDate(), hour));
+                }
+            }
+        }
+        if (claims.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SLOT_CLAIM_SQL, claims, BATCH_SIZE, (ps, claim) -> {
+                ps.setLong(1, claim.roomId());
+                ps.setDate(2, Date.valueOf(claim.date()));
+                ps.setInt(3, claim.hour());
+            });
+        } catch (DuplicateKeyException e) {
+            throw new RoomSlotTakenException("The room slot was booked concurrently.", e);
+        }
     }
 
     /**
-     * Converts a JpaMeeting entity to a Meeting domain model using ModelMapper.
+     * Finds the meetings of a date, loading only their hour, duration and room id.
      *
-     * @param jpaMeeting The JPA entity to convert.
-     * @return The corresponding Meeting domain model.
+     * @param date The date of the meetings.
+     * @return The meetings of the date, each with a room holding only its id.
      */
-    private Meeting convertToDomain(JpaMeeting jpaMeeting) {
-        return modelMapper.map(jpaMeeting, Meeting.class);
+    @Override
+    public List<Meeting> findAllByDate(LocalDate date) {
+        return jpaMeetingRepository.findRoomHoursByDate(date).stream()
+                .map(roomHour -> Meeting.builder()
+                        .date(date)
+                        .hour(roomHour.getHour())
+                        .durationMinutes(roomHour.getDurationMinutes())
+                        .room(Room.builder().id(roomHour.getRoomId()).build())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Streams the meetings of a date range through a forward-only cursor, reading {@value #EXPORT_FETCH_SIZE} rows
+     * at a time, so that memory does not grow with the size of the range.
+     *
+     * @param from     The first date, included.
+     * @param to       The last date, included.
+     * @param consumer Called once per meeting, with its type and room holding only their names and the room id.
+     */
+    @Override
+    public void forEachInDateRange(LocalDate from, LocalDate to, Consumer<Meeting> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXPORT_MEETINGS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            ps.setDate(1, Date.valueOf(from));
+            ps.setDate(2, Date.valueOf(to));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            long roomId = rs.getLong("room_id");
+            Room room = rs.wasNull() ? null : Room.builder().id(roomId).name(rs.getString("room_name")).build();
+            consumer.accept(Meeting.builder()
+                    .date(rs.getDate("date").toLocalDate())
+                    .hour(rs.getInt("hour"))
+                    .durationMinutes(rs.getInt("duration_minutes"))
+                    .participantCount(rs.getInt("participant_count"))
+                    .type(MeetingType.builder().name(rs.getString("type_name")).build())
+                    .room(room)
+                    .build());
+        });
+    }
+
+    /**
+     * Copies a chunk of past meetings to the archive table and deletes them, in a single transaction.
+     * Their room slot claims are deleted separately by {@link #deleteSlotClaimsBefore(LocalDate, int)}.
+     *
+     * @param date  The first date that is kept; meetings dated before it are archived.
+     * @param limit The maximum number of meetings to move.
+     * @return The number of meetings moved, lower than the limit once nothing is left to archive.
+     */
+    @Override
+    @Transactional
+    public int archiveBefore(LocalDate date, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_ARCHIVABLE_IDS_SQL, Long.class, Date.valueOf(date), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] parameters = ids.toArray();
+        jdbcTemplate.update(ARCHIVE_MEETINGS_SQL.formatted(placeholders), parameters);
+        jdbcTemplate.update(DELETE_MEETINGS_SQL.formatted(placeholders), parameters);
+        return ids.size();
+    }
+
+    /**
+     * Deletes a chunk of the room slot claims of past dates, in a single transaction.
+     * Bookings before the cutoff are rejected, so these slots can never be claimed again.
+     *
+     * @param date  The first date whose claims are kept.
+     * @param limit The maximum number of claims to delete.
+     * @return The number of claims deleted, lower than the limit once nothing is left to delete.
+     */
+    @Override
+    @Transactional
+    public int deleteSlotClaimsBefore(LocalDate date, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_PAST_SLOT_CLAIM_IDS_SQL, Long.class, Date.valueOf(date), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.update(DELETE_SLOT_CLAIMS_SQL.formatted(placeholders), ids.toArray());
+        return ids.size();
+    }
+
+    private record SlotClaim(Long roomId, LocalDate date, int hour) {
     }
 }
@@ -1,26 +1,29 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa;
 
 import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
+import com.zenika.meetingplanner.adapters.outbound.jpa.mappers.JpaDomainMapper;
 import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingTypeRepository;
 import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
 import com.zenika.meetingplanner.domain.MeetingType;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Service
+@Profile("!in-memory")
 public class MeetingTypeRepositoryAdapter implements MeetingTypeRepositoryPort {
 
     private final JpaMeetingTypeRepository jpaMeetingTypeRepository;
-    private final ModelMapper modelMapper;
+    private final JpaDomainMapper mapper;
 
     @Autowired
-    public MeetingTypeRepositoryAdapter(JpaMeetingTypeRepository jpaMeetingTypeRepository, ModelMapper modelMapper) {
+    public MeetingTypeRepositoryAdapter(JpaMeetingTypeRepository jpaMeetingTypeRepository, JpaDomainMapper mapper) {
         this.jpaMeetingTypeRepository = jpaMeetingTypeRepository;
-        this.modelMapper = modelMapper;
+        this.mapper = mapper;
     }
 
     /**
@@ -30,11 +33,25 @@ public class MeetingTypeRepositoryAdapter implements MeetingTypeRepositoryPort {
      * @return An Optional containing the MeetingType domain model.
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<MeetingType> findByName(String meetingTypeName) {
         // Find the JpaMeetingType entity by name
         Optional<JpaMeetingType> jpaMeetingType = jpaMeetingTypeRepository.findByName(meetingTypeName);
 
-        // If the entity is present, map it to the MeetingType domain model using ModelMapper
-        return jpaMeetingType.map(meetingType -> modelMapper.map(meetingType, MeetingType.class));
+        // If the entity is present, map it to the MeetingType domain model
+        return jpaMeetingType.map(mapper::toDomain);
+    }
+
+    /**
+     * Finds all meeting types and maps them to domain objects.
+     *
+     * @return The list of MeetingType domain models.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MeetingType> findAll() {
+        return jpaMeetingTypeRepository.findAll().stream()
+                .map(mapper::toDomain)
+                .toList();
     }
 }
@@ -1,46 +1,106 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa;
 
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
 import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
+import com.zenika.meetingplanner.adapters.outbound.jpa.mappers.JpaDomainMapper;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingRepository;
 import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaRoomRepository;
 import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.domain.MeetingType;
 import com.zenika.meetingplanner.domain.Room;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Profile("!in-memory")
 public class RoomRepositoryAdapter implements RoomRepositoryPort {
 
     private final JpaRoomRepository jpaRoomRepository;
-    private final ModelMapper modelMapper;
+    private final JpaMeetingRepository jpaMeetingRepository;
+    private final JpaDomainMapper mapper;
+    private final int bufferMinutes;
 
     @Autowired
-    public RoomRepositoryAdapter(JpaRoomRepository jpaRoomRepository, ModelMapper modelMapper) {
+    public RoomRepositoryAdapter(JpaRoomRepository jpaRoomRepository, JpaMeetingRepository jpaMeetingRepository, JpaDomainMapper mapper,
+                                 @Value("${meetingplanner.booking.buffer-minutes:60}") int bufferMinutes) {
         this.jpaRoomRepository = jpaRoomRepository;
-        this.modelMapper = modelMapper;
+        this.jpaMeetingRepository = jpaMeetingRepository;
+        this.mapper = mapper;
+        this.bufferMinutes = bufferMinutes;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Room> findAllRooms() {
         // Fetch all JpaRoom entities
         List<JpaRoom> jpaRooms = jpaRoomRepository.findAll();
 
-        // Map each JpaRoom to Room using ModelMapper
+        // Map each JpaRoom to Room with its whole reservation history
         return jpaRooms.stream()
-                .map(this::convertToDomain)
+                .map(jpaRoom -> mapper.toDomain(jpaRoom, jpaRoom.getReservations()))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Converts a JpaRoom entity to a Room domain model using ModelMapper.
+     * Finds all rooms with their equipment in a single statement, leaving their reservations empty.
      *
-     * @param jpaRoom The JpaRoom entity.
-     * @return The corresponding Room domain model.
+     * @return The rooms, without their reservations.
      */
-    private Room convertToDomain(JpaRoom jpaRoom) {
-        return modelMapper.map(jpaRoom, Room.class);
+    @Override
+    @Transactional(readOnly = true)
+    public List<Room> findAllRoomsWithEquipments() {
+        return jpaRoomRepository.findAllWithEquipments().stream()
+                .map(jpaRoom -> mapper.toDomain(jpaRoom, null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds all rooms with their equipment and only the reservations on a given date,
+     * in two statements whatever the number of rooms and the size of their history.
+     *
+     * @param date The date of the reservations to load.
+     * @return The rooms, each holding its reservations on the date.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Room> findAllRoomsWithReservationsOn(LocalDate date) {
+        // Fetch all rooms with their equipment
+        List<JpaRoom> jpaRooms = jpaRoomRepository.findAllWithEquipments();
+
+        // Fetch the meetings of the date and group them by room
+        Map<Long, List<JpaMeeting>> meetingsByRoomId = jpaMeetingRepository.findAllWithTypeByDate(date).stream()
+                .collect(Collectors.groupingBy(jpaMeeting -> jpaMeeting.getRoom().getId()));
+
+        // Map each room without walking its lazy reservations
+        return jpaRooms.stream()
+                .map(jpaRoom -> mapper.toDomain(jpaRoom, meetingsByRoomId.get(jpaRoom.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the most suitable room free for a meeting in a single query.
+     * It applies the same rules as the in-memory selection of the use cases and returns the same room.
+     *
+     * @param meetingType      The meeting type (defines equipment requirements and minimum capacity).
+     * @param participantCount The number of participants.
+     * @param date             The date of the meeting.
+     * @param hour             The hour of the meeting.
+     * @param durationMinutes  The length of the meeting, in minutes.
+     * @return An Optional containing the best room, without its reservations.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Room> findBestRoom(MeetingType meetingType, int participantCount, LocalDate date, int hour, int durationMinutes) {
+        return jpaRoomRepository.findBestRoom(meetingType.getName(), participantCount, date, hour, durationMinutes, bufferMinutes)
+                .map(jpaRoom -> mapper.toDomain(jpaRoom, null));
     }
 }
@@ -1,9 +1,11 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa.entities;
 
+import com.zenika.meetingplanner.adapters.outbound.jpa.listeners.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "equipment")
 @Getter
 @Setter
@@ -1,5 +1,6 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa.entities;
 
+import com.zenika.meetingplanner.domain.Meeting;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -24,6 +25,10 @@ public class JpaMeeting {
     @Column(nullable = false)
     private int hour;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private int durationMinutes = Meeting.DEFAULT_DURATION_MINUTES;
+
     @Column(nullable = false)
     private int participantCount;
 
@@ -1,11 +1,13 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa.entities;
 
+import com.zenika.meetingplanner.adapters.outbound.jpa.listeners.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.List;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "meeting_types")
 @Builder
 @Getter
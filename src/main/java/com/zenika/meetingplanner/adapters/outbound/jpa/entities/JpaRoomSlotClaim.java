@@ -0,0 +1,40 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+
+/**
+ * An hour of a room taken by a meeting, either by the meeting itself or by the cleaning hour after it.
+ * A meeting starting at hour h claims h and h + 1, so the unique key rejects any meeting starting
+ * less than two hours before or after another one in the same room.
+ */
+@Entity
+@Table(name = "room_slot_claims",
+        uniqueConstraints = @UniqueConstraint(name = "uk_room_slot_claims_room_date_hour", columnNames = {"room_id", "date", "hour"}))
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JpaRoomSlotClaim {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private JpaRoom room;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private int hour;
+
+}
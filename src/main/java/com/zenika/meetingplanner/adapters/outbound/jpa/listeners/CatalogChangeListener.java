@@ -0,0 +1,37 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa.listeners;
+
+import com.zenika.meetingplanner.application.events.CatalogChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.Table;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener publishing a {@link CatalogChangedEvent} whenever a catalog entity is written.
+ * The catalog version row is incremented in the same transaction, so that the other instances rebuild their
+ * catalog too once they poll it.
+ */
+@Component
+@Profile("!in-memory")
+public class CatalogChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogVersionWatcher catalogVersionWatcher;
+
+    public CatalogChangeListener(ApplicationEventPublisher eventPublisher, CatalogVersionWatcher catalogVersionWatcher) {
+        this.eventPublisher = eventPublisher;
+        this.catalogVersionWatcher = catalogVersionWatcher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogChange(Object entity) {
+        catalogVersionWatcher.increment();
+        Table table = entity.getClass().getAnnotation(Table.class);
+        eventPublisher.publishEvent(new CatalogChangedEvent(table != null ? table.name() : entity.getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa.listeners;
+
+import com.zenika.meetingplanner.application.events.CatalogChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells this instance about catalog changes made outside of it, by another instance or by a script.
+ * The {@code catalog_version} row is polled every {@code meetingplanner.catalog.poll-interval}, and a
+ * {@link CatalogChangedEvent} is published when it moved. A rebuild is also forced every
+ * {@code meetingplanner.catalog.full-refresh-interval}, for the changes made without incrementing the row.
+ */
+@Component
+@Profile("!in-memory")
+public class CatalogVersionWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogVersionWatcher.class);
+
+    private static final String SELECT_VERSION_SQL = "select version from catalog_version where id = 1";
+    private static final String INCREMENT_VERSION_SQL = "update catalog_version set version = version + 1 where id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Long lastSeenVersion;
+
+    public CatalogVersionWatcher(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Increments the catalog version, in the current transaction.
+     */
+    public void increment() {
+        jdbcTemplate.update(INCREMENT_VERSION_SQL);
+    }
+
+    /**
+     * Reads the catalog version and publishes a change when it moved since the last poll.
+     * The first poll only records the version, the catalog being built from the database at startup.
+     */
+    @Scheduled(fixedDelayString = "${meetingplanner.catalog.poll-interval:PT5S}")
+    public void poll() {
+        Long version = jdbcTemplate.queryForObject(SELECT_VERSION_SQL, Long.class);
+        Long previous = lastSeenVersion;
+        lastSeenVersion = version;
+        if (previous != null && !previous.equals(version)) {
+            logger.info("Catalog version moved from {} to {}", previous, version);
+            eventPublisher.publishEvent(new CatalogChangedEvent("catalog_version"));
+        }
+    }
+
+    /**
+     * Forces a rebuild of the catalog, for changes made without incrementing the version.
+     */
+    @Scheduled(fixedDelayString = "${meetingplanner.catalog.full-refresh-interval:PT10M}",
+            initialDelayString = "${meetingplanner.catalog.full-refresh-interval:PT10M}")
+    public void refreshAll() {
+        eventPublisher.publishEvent(new CatalogChangedEvent("scheduled"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa.mappers;
+
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaEquipment;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Explicit conversions between JPA entities and domain models.
+ * Each method only reads the associations the domain needs, so no lazy collection is loaded by accident,
+ * and the room/meeting cycle is closed by pointing reservations back at the room being built.
+ */
+@Component
+public class JpaDomainMapper {
+
+    /**
+     * Converts a JpaRoom entity to a Room domain model holding the given reservations.
+     *
+     * @param jpaRoom         The JpaRoom entity, with its equipment loaded.
+     * @param jpaReservations The reservations to attach to the room, or null for none.
+     * @return The corresponding Room domain model.
+     */
+    public Room toDomain(JpaRoom jpaRoom, List<JpaMeeting> jpaReservations) {
+        Room room = Room.builder()
+                .id(jpaRoom.getId())
+                .name(jpaRoom.getName())
+                .capacity(jpaRoom.getCapacity())
+                .equipments(toDomainEquipments(jpaRoom.getEquipments()))
+                .build();
+
+        List<Meeting> reservations = new ArrayList<>();
+        if (jpaReservations != null) {
+            for (JpaMeeting jpaMeeting : jpaReservations) {
+                reservations.add(toDomain(jpaMeeting, room));
+            }
+        }
+        room.setReservations(reservations);
+
+        return room;
+    }
+
+    /**
+     * Converts a JpaMeeting entity to a Meeting domain model.
+     * The room only carries its id, name and capacity; its equipment and reservations are not read.
+     *
+     * @param jpaMeeting The JpaMeeting entity.
+     * @return The corresponding Meeting domain model.
+     */
+    public Meeting toDomain(JpaMeeting jpaMeeting) {
+        JpaRoom jpaRoom = jpaMeeting.getRoom();
+        Room room = jpaRoom == null ? null : Room.builder()
+                .id(jpaRoom.getId())
+                .name(jpaRoom.getName())
+                .capacity(jpaRoom.getCapacity())
+                .build();
+        return toDomain(jpaMeeting, room);
+    }
+
+    /**
+     * Converts a JpaMeeting entity to a Meeting domain model with an already known type and room,
+     * so that unloaded references on the entity are never read.
+     *
+     * @param jpaMeeting The JpaMeeting entity.
+     * @param type       The domain type of the meeting.
+     * @param room       The domain room of the meeting.
+     * @return The corresponding Meeting domain model.
+     */
+    public Meeting toDomain(JpaMeeting jpaMeeting, MeetingType type, Room room) {
+        return Meeting.builder()
+                .date(jpaMeeting.getDate())
+                .hour(jpaMeeting.getHour())
+                .durationMinutes(jpaMeeting.getDurationMinutes())
+                .participantCount(jpaMeeting.getParticipantCount())
+                .type(type)
+                .room(room)
+                .build();
+    }
+
+    /**
+     * Converts a JpaMeetingType entity to a MeetingType domain model, with its required equipment.
+     *
+     * @param jpaMeetingType The JpaMeetingType entity.
+     * @return The corresponding MeetingType domain model.
+     */
+    public MeetingType toDomain(JpaMeetingType jpaMeetingType) {
+        return MeetingType.builder()
+                .id(jpaMeetingType.getId())
+                .name(jpaMeetingType.getName())
+                .minimumCapacity(jpaMeetingType.getMinimumCapacity())
+                .requiredEquipment(toDomainEquipments(jpaMeetingType.getRequiredEquipment()))
+                .build();
+    }
+
+    /**
+     * Converts a Meeting domain model to a JpaMeeting entity.
+     * Only the meeting's own columns are copied; the type and room references are resolved by the caller.
+     *
+     * @param meeting The Meeting domain model.
+     * @return The corresponding JpaMeeting entity.
+     */
+    public JpaMeeting toEntity(Meeting meeting) {
+        return JpaMeeting.builder()
+                .date(meeting.getDate())
+                .hour(meeting.getHour())
+                .durationMinutes(meeting.getDurationMinutes())
+                .participantCount(meeting.getParticipantCount())
+                .build();
+    }
+
+    private Meeting toDomain(JpaMeeting jpaMeeting, Room room) {
+        JpaMeetingType jpaMeetingType = jpaMeeting.getType();
+        MeetingType type = jpaMeetingType == null ? null : MeetingType.builder()
+                .id(jpaMeetingType.getId())
+                .name(jpaMeetingType.getName())
+                .minimumCapacity(jpaMeetingType.getMinimumCapacity())
+                .build();
+        return toDomain(jpaMeeting, type, room);
+    }
+
+    private List<Equipment> toDomainEquipments(List<JpaEquipment> jpaEquipments) {
+        if (jpaEquipments == null) {
+            return new ArrayList<>();
+        }
+        List<Equipment> equipments = new ArrayList<>(jpaEquipments.size());
+        for (JpaEquipment jpaEquipment : jpaEquipments) {
+            equipments.add(new Equipment(jpaEquipment.getName()));
+        }
+        return equipments;
+    }
+}
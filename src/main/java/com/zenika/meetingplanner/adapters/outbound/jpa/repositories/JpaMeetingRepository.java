@@ -2,8 +2,29 @@ package com.zenika.meetingplanner.adapters.outbound.jpa.repositories;
 
 import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface JpaMeetingRepository extends JpaRepository<JpaMeeting, Long> {
+
+    // Meetings of a date with their type and room, in a single statement
+    @Query("select m from JpaMeeting m join fetch m.type join fetch m.room where m.date = :date")
+    List<JpaMeeting> findAllWithTypeByDate(@Param("date") LocalDate date);
+
+    // Booked room, hour and duration of every meeting on a date, without loading the meeting graph
+    @Query("select m.room.id as roomId, m.hour as hour, m.durationMinutes as durationMinutes from JpaMeeting m where m.date = :date")
+    List<RoomHour> findRoomHoursByDate(@Param("date") LocalDate date);
+
+    interface RoomHour {
+        Long getRoomId();
+
+        int getHour();
+
+        int getDurationMinutes();
+    }
 }
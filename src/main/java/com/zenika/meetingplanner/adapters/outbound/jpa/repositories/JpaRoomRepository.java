@@ -2,8 +2,48 @@ package com.zenika.meetingplanner.adapters.outbound.jpa.repositories;
 
 import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface JpaRoomRepository extends JpaRepository<JpaRoom, Long> {
+
+    // All rooms with their equipment in a single statement, leaving reservations unloaded.
+    // Ordered by id, so that rooms with the same suitability score keep that order in the catalog.
+    @Query("select distinct r from JpaRoom r left join fetch r.equipments order by r.id")
+    List<JpaRoom> findAllWithEquipments();
+
+    // Same rules as Room.isSuitableForMeetingType, hasCapacity and isAvailableAt, ordered like the catalog candidates:
+    // RoomSuitabilityComparator's score, then the id. The meeting and every existing one keep :bufferMinutes apart.
+    // The 0.7e0 literal keeps the capacity rule in double arithmetic, as in Room.hasCapacity.
+    @Query(value = """
+            select r.* from rooms r
+            join meeting_types mt on mt.name = :meetingTypeName
+            where r.capacity >= mt.minimum_capacity
+              and r.capacity * 0.7e0 >= :participantCount
+              and not exists (
+                  select 1 from meeting_type_equipment mte
+                  where mte.meeting_type_id = mt.id
+                    and not exists (
+                        select 1 from room_equipment re
+                        where re.room_id = r.id and re.equipment_id = mte.equipment_id))
+              and not exists (
+                  select 1 from meetings m
+                  where m.room_id = r.id and m.date = :date
+                    and m.hour * 60 < :hour * 60 + :durationMinutes + :bufferMinutes
+                    and m.hour * 60 + m.duration_minutes + :bufferMinutes > :hour * 60)
+            order by r.capacity + 3 * (select count(*) from room_equipment re where re.room_id = r.id), r.id
+            limit 1
+            """, nativeQuery = true)
+    Optional<JpaRoom> findBestRoom(@Param("meetingTypeName") String meetingTypeName,
+                                   @Param("participantCount") int participantCount,
+                                   @Param("date") LocalDate date,
+                                   @Param("hour") int hour,
+                                   @Param("durationMinutes") int durationMinutes,
+                                   @Param("bufferMinutes") int bufferMinutes);
 }
@@ -0,0 +1,294 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import com.zenika.meetingplanner.domain.Meeting;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of bookings on a memory-mapped file.
+ * Records have a fixed size and start with a CRC32 of their content, so that a record torn by a crash is detected
+ * and dropped on recovery, with everything after it. Appends only write to the mapping; a background thread forces
+ * the written range to disk at most once per {@code groupCommitInterval}, and {@link #awaitDurable(long)} blocks
+ * until a position is covered, so concurrent bookings share one fsync. When a force fails, the records it did not
+ * cover are cleared, so that a booking reported as failed is not replayed later, and the journal refuses new records.
+ *
+ * <p>The mapping doubles when full and is limited to 2 GB (about 67 million bookings).
+ */
+public class BookingJournal implements AutoCloseable {
+
+    static final int RECORD_SIZE = 32;
+
+    // Layout: crc (4), room id (8), meeting type id (8), epoch day (4), duration (2), hour (2), participant count (4).
+    // Records written before meetings had a duration hold 0 there, read back as one hour.
+    private static final int CONTENT_OFFSET = 4;
+
+    private final FileChannel channel;
+    private final Duration groupCommitInterval;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+    private final Condition durable = lock.newCondition();
+    private final Thread flusher;
+
+    private MappedByteBuffer buffer;
+    private int writePosition;
+    private int flushedPosition;
+    private IOException flushFailure;
+    private boolean closed;
+
+    private BookingJournal(FileChannel channel, MappedByteBuffer buffer, int writePosition, Duration groupCommitInterval) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+        this.flushedPosition = writePosition;
+        this.groupCommitInterval = groupCommitInterval;
+        this.flusher = new Thread(this::flushLoop, "booking-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Opens a journal, replaying its valid records and discarding anything after the first invalid one.
+     *
+     * @param path                The journal file, created if missing.
+     * @param initialCapacity     The initial size of the mapping, in bytes.
+     * @param groupCommitInterval The longest time appends wait to be forced together.
+     * @param replay              Called with every valid record, in order.
+     * @return The journal, positioned after the last valid record.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public static BookingJournal open(Path path, int initialCapacity, Duration groupCommitInterval, Consumer<JournalRecord> replay) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int capacity = (int) Math.max(roundToRecords(initialCapacity), roundToRecords(channel.size()));
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        int position = 0;
+        while (position + RECORD_SIZE <= capacity && isValid(buffer, position)) {
+            replay.accept(read(buffer, position));
+            position += RECORD_SIZE;
+        }
+
+        // Clear the tail, so that records written after a torn one can never be replayed once new records follow it
+        if (clear(buffer, position, capacity)) {
+            buffer.force();
+        }
+        return new BookingJournal(channel, buffer, position, groupCommitInterval);
+    }
+
+    /**
+     * Writes a record to the mapping. It is durable once {@link #awaitDurable(long)} returns for the returned position.
+     *
+     * @param record The booking to append.
+     * @return The position just after the record.
+     */
+    public long append(JournalRecord record) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The booking journal is closed.");
+            }
+            if (flushFailure != null) {
+                throw new UncheckedIOException("The booking journal could not be forced to disk.", flushFailure);
+            }
+            ensureCapacity();
+            write(buffer, writePosition, record);
+            writePosition += RECORD_SIZE;
+            pending.signal();
+            return writePosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every record up to a position has been forced to disk.
+     *
+     * @param position A position returned by {@link #append(JournalRecord)}.
+     * @throws UncheckedIOException If forcing the journal failed; the record was then cleared and will not be replayed.
+     */
+    public void awaitDurable(long position) {
+        lock.lock();
+        try {
+            while (flushedPosition < position) {
+                if (flushFailure != null) {
+                    throw new UncheckedIOException("The booking journal could not be forced to disk.", flushFailure);
+                }
+                if (closed) {
+                    throw new IllegalStateException("The booking journal is closed.");
+                }
+                durable.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces the pending records and closes the file.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void flushLoop() {
+        while (true) {
+            MappedByteBuffer target;
+            int from;
+            int to;
+            lock.lock();
+            try {
+                while (writePosition == flushedPosition && !closed) {
+                    pending.awaitUninterruptibly();
+                }
+                if (writePosition == flushedPosition) {
+                    durable.signalAll();
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // Let more appends join this fsync
+            if (!closed) {
+                sleep(groupCommitInterval);
+            }
+
+            lock.lock();
+            try {
+                target = buffer;
+                from = flushedPosition;
+                to = writePosition;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException failure = null;
+            try {
+                target.force(from, to - from);
+            } catch (UncheckedIOException e) {
+                failure = e.getCause();
+            }
+
+            lock.lock();
+            try {
+                if (failure != null) {
+                    flushFailure = failure;
+                    // The mapping is the page cache: cleared records can no longer reach the disk and be replayed
+                    clear(buffer, flushedPosition, writePosition);
+                    writePosition = flushedPosition;
+                } else {
+                    flushedPosition = Math.max(flushedPosition, to);
+                }
+                durable.signalAll();
+                if (failure != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void ensureCapacity() {
+        if (writePosition + RECORD_SIZE <= buffer.capacity()) {
+            return;
+        }
+        long capacity = Math.min(2L * buffer.capacity(), roundToRecords(Integer.MAX_VALUE));
+        if (capacity < writePosition + RECORD_SIZE) {
+            throw new IllegalStateException("The booking journal is full.");
+        }
+        try {
+            // The previous mapping stays valid for a flush in progress; the new one covers the same bytes
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("The booking journal could not be extended.", e);
+        }
+    }
+
+    private static boolean clear(MappedByteBuffer buffer, int from, int to) {
+        boolean cleared = false;
+        for (int index = from; index < to; index += Long.BYTES) {
+            if (buffer.getLong(index) != 0) {
+                buffer.putLong(index, 0);
+                cleared = true;
+            }
+        }
+        return cleared;
+    }
+
+    private static long roundToRecords(long size) {
+        return Math.max(RECORD_SIZE, size / RECORD_SIZE * RECORD_SIZE);
+    }
+
+    private static void write(MappedByteBuffer buffer, int position, JournalRecord record) {
+        buffer.putLong(position + 4, record.roomId());
+        buffer.putLong(position + 12, record.meetingTypeId());
+        buffer.putInt(position + 20, (int) record.date().toEpochDay());
+        buffer.putShort(position + 24, (short) record.durationMinutes());
+        buffer.putShort(position + 26, (short) record.hour());
+        buffer.putInt(position + 28, record.participantCount());
+        buffer.putInt(position, checksum(buffer, position));
+    }
+
+    private static JournalRecord read(MappedByteBuffer buffer, int position) {
+        return new JournalRecord(
+                buffer.getLong(position + 4),
+                buffer.getLong(position + 12),
+                LocalDate.ofEpochDay(buffer.getInt(position + 20)),
+                buffer.getShort(position + 26),
+                durationOrDefault(buffer.getShort(position + 24)),
+                buffer.getInt(position + 28));
+    }
+
+    private static int durationOrDefault(int durationMinutes) {
+        return durationMinutes == 0 ? Meeting.DEFAULT_DURATION_MINUTES : durationMinutes;
+    }
+
+    private static boolean isValid(MappedByteBuffer buffer, int position) {
+        return buffer.getInt(position) == checksum(buffer, position);
+    }
+
+    private static int checksum(MappedByteBuffer buffer, int position) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(position + CONTENT_OFFSET, RECORD_SIZE - CONTENT_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rooms and meeting types of the in-memory profile, read once from a JSON file.
+ * Ids are assigned in file order, starting at 1; the booking journal refers to them, so entries may be appended
+ * to the file but must not be reordered or removed once bookings exist.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryCatalog {
+
+    private final List<Room> rooms = new ArrayList<>();
+    private final Map<Long, Room> roomsById = new LinkedHashMap<>();
+    private final Map<String, MeetingType> meetingTypesByName = new LinkedHashMap<>();
+    private final Map<Long, MeetingType> meetingTypesById = new LinkedHashMap<>();
+
+    public InMemoryCatalog(@Value("${meetingplanner.in-memory.catalog}") Resource catalog, ObjectMapper objectMapper) throws IOException {
+        CatalogFile file;
+        try (InputStream inputStream = catalog.getInputStream()) {
+            file = objectMapper.readValue(inputStream, CatalogFile.class);
+        }
+
+        long meetingTypeId = 1;
+        for (MeetingTypeEntry entry : file.meetingTypes()) {
+            MeetingType meetingType = MeetingType.builder()
+                    .id(meetingTypeId++)
+                    .name(entry.name())
+                    .minimumCapacity(entry.minimumCapacity())
+                    .requiredEquipment(toEquipments(entry.requiredEquipment()))
+                    .build();
+            meetingTypesByName.put(meetingType.getName(), meetingType);
+            meetingTypesById.put(meetingType.getId(), meetingType);
+        }
+
+        long roomId = 1;
+        for (RoomEntry entry : file.rooms()) {
+            Room room = Room.builder()
+                    .id(roomId++)
+                    .name(entry.name())
+                    .capacity(entry.capacity())
+                    .equipments(toEquipments(entry.equipments()))
+                    .reservations(List.of())
+                    .build();
+            rooms.add(room);
+            roomsById.put(room.getId(), room);
+        }
+    }
+
+    /**
+     * Returns the rooms with their equipment. The rooms are shared and must not be modified.
+     *
+     * @return The rooms, in file order.
+     */
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public Room getRoom(long roomId) {
+        return roomsById.get(roomId);
+    }
+
+    public Optional<MeetingType> findMeetingType(String name) {
+        return Optional.ofNullable(meetingTypesByName.get(name));
+    }
+
+    public MeetingType getMeetingType(long meetingTypeId) {
+        return meetingTypesById.get(meetingTypeId);
+    }
+
+    public List<MeetingType> getMeetingTypes() {
+        return List.copyOf(meetingTypesByName.values());
+    }
+
+    private static List<Equipment> toEquipments(List<String> names) {
+        return names == null ? List.of() : names.stream().map(Equipment::new).toList();
+    }
+
+    private record CatalogFile(List<MeetingTypeEntry> meetingTypes, List<RoomEntry> rooms) {
+    }
+
+    private record MeetingTypeEntry(String name, int minimumCapacity, List<String> requiredEquipment) {
+    }
+
+    private record RoomEntry(String name, int capacity, List<String> equipments) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import com.zenika.meetingplanner.application.ports.JobLockPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locks of a single instance: the in-memory profile never shares its state with other instances.
+ */
+@Service
+@Profile("in-memory")
+public class InMemoryJobLockAdapter implements JobLockPort {
+
+    private final Set<String> heldLocks = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        return heldLocks.add(name);
+    }
+
+    @Override
+    public void unlock(String name) {
+        heldLocks.remove(name);
+    }
+}
@@ -0,0 +1,236 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.Room;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps every meeting in memory and makes bookings durable through a {@link BookingJournal}.
+ * Like the unique key on the room slot claims, a meeting claims every hour it and the cleaning buffer after it touch,
+ * and a save overlapping a claimed slot is rejected with a {@link RoomSlotTakenException}.
+ * A save returns once its journal record is on disk; the state is rebuilt from the journal on startup.
+ */
+@Service
+@Profile("in-memory")
+public class InMemoryMeetingRepositoryAdapter implements MeetingRepositoryPort, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryMeetingRepositoryAdapter.class);
+
+    private static final int INITIAL_JOURNAL_CAPACITY = 64 * 1024 * 1024;
+
+    private final InMemoryCatalog catalog;
+    private final BookingJournal journal;
+    private final int bufferMinutes;
+
+    // Claimed hours per date and room, guarded by the adapter's monitor
+    private final Map<LocalDate, Map<Long, Integer>> claimedHours = new HashMap<>();
+    // Durable meetings per date, in booking order
+    private final NavigableMap<LocalDate, List<Meeting>> meetingsByDate = new ConcurrentSkipListMap<>();
+
+    public InMemoryMeetingRepositoryAdapter(InMemoryCatalog catalog,
+                                            @Value("${meetingplanner.in-memory.journal-path}") Path journalPath,
+                                            @Value("${meetingplanner.in-memory.group-commit-interval:1ms}") Duration groupCommitInterval,
+                                            @Value("${meetingplanner.booking.buffer-minutes:60}") int bufferMinutes) throws IOException {
+        this.catalog = catalog;
+        this.bufferMinutes = bufferMinutes;
+        long startTime = System.nanoTime();
+        this.journal = BookingJournal.open(journalPath, INITIAL_JOURNAL_CAPACITY, groupCommitInterval, this::replay);
+        logger.info("Replayed {} bookings from {} in {} ms", meetingsByDate.values().stream().mapToInt(List::size).sum(),
+                journalPath, (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Saves a meeting once its room slots are claimed and its journal record is on disk.
+     *
+     * @param meeting The meeting to save, with its type and room.
+     * @return The saved meeting.
+     * @throws RoomSlotTakenException If the room is already booked at an overlapping hour.
+     */
+    @Override
+    public Meeting save(Meeting meeting) {
+        return saveAll(List.of(meeting)).get(0);
+    }
+
+    /**
+     * Saves meetings together: either every slot is claimed, or none is.
+     *
+     * @param meetings The meetings to save, with their type and room.
+     * @return The saved meetings.
+     * @throws RoomSlotTakenException If one of the rooms is already booked at an overlapping hour.
+     */
+    @Override
+    public List<Meeting> saveAll(List<Meeting> meetings) {
+        long position;
+        synchronized (this) {
+            List<Meeting> claimed = new ArrayList<>(meetings.size());
+            for (Meeting meeting : meetings) {
+                if (!claim(meeting)) {
+                    claimed.forEach(this::unclaim);
+                    throw new RoomSlotTakenException("The room slot was booked concurrently.");
+                }
+                claimed.add(meeting);
+            }
+            position = 0;
+            try {
+                for (Meeting meeting : meetings) {
+                    position = journal.append(new JournalRecord(meeting.getRoom().getId(), meeting.getType().getId(),
+                            meeting.getDate(), meeting.getHour(), meeting.getDurationMinutes(), meeting.getParticipantCount()));
+                }
+            } catch (RuntimeException e) {
+                // Nothing is published: free the slots so that the booking can be retried
+                meetings.forEach(this::unclaim);
+                throw e;
+            }
+        }
+
+        // Wait outside the monitor, so that concurrent bookings share the next fsync
+        try {
+            journal.awaitDurable(position);
+        } catch (RuntimeException e) {
+            // The journal cleared the records it could not force, so they are not replayed either: free the slots
+            synchronized (this) {
+                meetings.forEach(this::unclaim);
+            }
+            throw e;
+        }
+        meetings.forEach(this::publish);
+        return meetings;
+    }
+
+    /**
+     * Archived dates keep their slots claimed in memory, since their meetings are never archived.
+     *
+     * @param meetings The meetings to save, with their type and room.
+     * @return The saved meetings.
+     */
+    @Override
+    public List<Meeting> saveAllUnclaimed(List<Meeting> meetings) {
+        return saveAll(meetings);
+    }
+
+    /**
+     * Finds the meetings of a date.
+     *
+     * @param date The date of the meetings.
+     * @return The meetings of the date, with their type and room.
+     */
+    @Override
+    public List<Meeting> findAllByDate(LocalDate date) {
+        List<Meeting> meetings = meetingsByDate.get(date);
+        if (meetings == null) {
+            return List.of();
+        }
+        synchronized (meetings) {
+            return List.copyOf(meetings);
+        }
+    }
+
+    /**
+     * Streams the meetings of a date range, ordered by date and hour.
+     *
+     * @param from     The first date, included.
+     * @param to       The last date, included.
+     * @param consumer Called once per meeting.
+     */
+    @Override
+    public void forEachInDateRange(LocalDate from, LocalDate to, Consumer<Meeting> consumer) {
+        for (LocalDate date : meetingsByDate.subMap(from, true, to, true).keySet()) {
+            List<Meeting> meetings = new ArrayList<>(findAllByDate(date));
+            meetings.sort(Comparator.comparingInt(Meeting::getHour));
+            meetings.forEach(consumer);
+        }
+    }
+
+    /**
+     * Archiving is not supported in memory: the journal keeps the whole history and replays it on startup.
+     *
+     * @return Always 0.
+     */
+    @Override
+    public int archiveBefore(LocalDate date, int limit) {
+        return 0;
+    }
+
+    /**
+     * The claims of archived dates are kept in memory, since their meetings are never archived.
+     *
+     * @return Always 0.
+     */
+    @Override
+    public int deleteSlotClaimsBefore(LocalDate date, int limit) {
+        return 0;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        journal.close();
+    }
+
+    private void replay(JournalRecord record) {
+        Room room = catalog.getRoom(record.roomId());
+        Meeting meeting = Meeting.builder()
+                .date(record.date())
+                .hour(record.hour())
+                .durationMinutes(record.durationMinutes())
+                .participantCount(record.participantCount())
+                .type(catalog.getMeetingType(record.meetingTypeId()))
+                .room(room)
+                .build();
+        if (room == null || meeting.getType() == null) {
+            logger.warn("Skipping a journaled booking of unknown room {} or meeting type {}", record.roomId(), record.meetingTypeId());
+            return;
+        }
+        synchronized (this) {
+            claim(meeting);
+        }
+        publish(meeting);
+    }
+
+    private boolean claim(Meeting meeting) {
+        Map<Long, Integer> rooms = claimedHours.computeIfAbsent(meeting.getDate(), d -> new HashMap<>());
+        int claimed = rooms.getOrDefault(meeting.getRoom().getId(), 0);
+        int slots = slotsOf(meeting);
+        if ((claimed & slots) != 0) {
+            return false;
+        }
+        rooms.put(meeting.getRoom().getId(), claimed | slots);
+        return true;
+    }
+
+    private void unclaim(Meeting meeting) {
+        int slots = slotsOf(meeting);
+        claimedHours.get(meeting.getDate()).merge(meeting.getRoom().getId(), 0, (claimed, ignored) -> claimed & ~slots);
+    }
+
+    private int slotsOf(Meeting meeting) {
+        return HourSlots.span(meeting.getStartMinute(), meeting.getEndMinute() + bufferMinutes);
+    }
+
+    private void publish(Meeting meeting) {
+        List<Meeting> meetings = meetingsByDate.computeIfAbsent(meeting.getDate(), date -> new ArrayList<>());
+        synchronized (meetings) {
+            meetings.add(meeting);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.domain.MeetingType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Profile("in-memory")
+public class InMemoryMeetingTypeRepositoryAdapter implements MeetingTypeRepositoryPort {
+
+    private final InMemoryCatalog catalog;
+
+    public InMemoryMeetingTypeRepositoryAdapter(InMemoryCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @Override
+    public Optional<MeetingType> findByName(String meetingTypeName) {
+        return catalog.findMeetingType(meetingTypeName);
+    }
+
+    @Override
+    public List<MeetingType> findAll() {
+        return catalog.getMeetingTypes();
+    }
+}
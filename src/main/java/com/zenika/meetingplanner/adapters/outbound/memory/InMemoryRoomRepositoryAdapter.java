@@ -0,0 +1,89 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.common.utils.RoomSuitabilityComparator;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("in-memory")
+public class InMemoryRoomRepositoryAdapter implements RoomRepositoryPort {
+
+    private final InMemoryCatalog catalog;
+    private final InMemoryMeetingRepositoryAdapter meetingRepository;
+    private final int bufferMinutes;
+
+    public InMemoryRoomRepositoryAdapter(InMemoryCatalog catalog, InMemoryMeetingRepositoryAdapter meetingRepository,
+                                         @Value("${meetingplanner.booking.buffer-minutes:60}") int bufferMinutes) {
+        this.catalog = catalog;
+        this.meetingRepository = meetingRepository;
+        this.bufferMinutes = bufferMinutes;
+    }
+
+    /**
+     * Returns every room with its whole reservation history.
+     *
+     * @return The rooms, with their reservations.
+     */
+    @Override
+    public List<Room> findAllRooms() {
+        Map<Long, Room> rooms = copyRooms();
+        meetingRepository.forEachInDateRange(LocalDate.MIN, LocalDate.MAX,
+                meeting -> rooms.get(meeting.getRoom().getId()).getReservations().add(meeting));
+        return new ArrayList<>(rooms.values());
+    }
+
+    /**
+     * Returns the shared catalog rooms, without reservations.
+     *
+     * @return The rooms, which must not be modified.
+     */
+    @Override
+    public List<Room> findAllRoomsWithEquipments() {
+        return catalog.getRooms();
+    }
+
+    @Override
+    public List<Room> findAllRoomsWithReservationsOn(LocalDate date) {
+        Map<Long, Room> rooms = copyRooms();
+        for (Meeting meeting : meetingRepository.findAllByDate(date)) {
+            rooms.get(meeting.getRoom().getId()).getReservations().add(meeting);
+        }
+        return new ArrayList<>(rooms.values());
+    }
+
+    @Override
+    public Optional<Room> findBestRoom(MeetingType meetingType, int participantCount, LocalDate date, int hour, int durationMinutes) {
+        // The rooms are in id order and the sort is stable, so ties are broken by id as in the catalog
+        return findAllRoomsWithReservationsOn(date).stream()
+                .filter(room -> room.isSuitableForMeetingType(meetingType)
+                        && room.hasCapacity(participantCount)
+                        && room.isAvailableAt(date, hour, durationMinutes, bufferMinutes))
+                .min(new RoomSuitabilityComparator());
+    }
+
+    private Map<Long, Room> copyRooms() {
+        return catalog.getRooms().stream()
+                .map(room -> Room.builder()
+                        .id(room.getId())
+                        .name(room.getName())
+                        .capacity(room.getCapacity())
+                        .equipments(room.getEquipments())
+                        .reservations(new ArrayList<>())
+                        .build())
+                .collect(Collectors.toMap(Room::getId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+    }
+}
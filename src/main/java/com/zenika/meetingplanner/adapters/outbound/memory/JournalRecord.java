@@ -0,0 +1,9 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import java.time.LocalDate;
+
+/**
+ * A booking as written to the {@link BookingJournal}.
+ */
+public record JournalRecord(long roomId, long meetingTypeId, LocalDate date, int hour, int durationMinutes, int participantCount) {
+}
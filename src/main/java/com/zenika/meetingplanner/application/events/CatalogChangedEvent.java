@@ -0,0 +1,9 @@
+package com.zenika.meetingplanner.application.events;
+
+/**
+ * Published when a room, a meeting type or an equipment is created, updated or deleted.
+ *
+ * @param source The name of the changed catalog entity (e.g., "rooms", "meeting_types").
+ */
+public record CatalogChangedEvent(String source) {
+}
@@ -0,0 +1,12 @@
+package com.zenika.meetingplanner.application.ports;
+
+import java.time.Duration;
+
+public interface JobLockPort {
+
+    // Take a named lock shared by every instance, held at most for the given time, and return false if another holder has it
+    boolean tryLock(String name, Duration lockAtMostFor);
+
+    // Release a lock taken with tryLock
+    void unlock(String name);
+}
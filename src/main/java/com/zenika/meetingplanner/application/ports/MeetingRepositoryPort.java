@@ -2,8 +2,30 @@ package com.zenika.meetingplanner.application.ports;
 
 import com.zenika.meetingplanner.domain.Meeting;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface MeetingRepositoryPort {
 
     // Save a meeting
     Meeting save(Meeting meeting);
+
+    // Save meetings whose type and room ids are known, in batched inserts
+    List<Meeting> saveAll(List<Meeting> meetings);
+
+    // Save meetings of archived dates in batched inserts, without claiming their room slots
+    List<Meeting> saveAllUnclaimed(List<Meeting> meetings);
+
+    // Get the meetings of a date, with only their hour and room id
+    List<Meeting> findAllByDate(LocalDate date);
+
+    // Stream the meetings of a date range to a consumer, ordered by date and hour, without holding them in memory
+    void forEachInDateRange(LocalDate from, LocalDate to, Consumer<Meeting> consumer);
+
+    // Move at most limit meetings dated before a day to the archive, in one transaction, and return how many moved
+    int archiveBefore(LocalDate date, int limit);
+
+    // Delete at most limit room slot claims dated before a day, in one transaction, and return how many were deleted
+    int deleteSlotClaimsBefore(LocalDate date, int limit);
 }
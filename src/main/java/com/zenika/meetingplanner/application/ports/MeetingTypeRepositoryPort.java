@@ -2,10 +2,14 @@ package com.zenika.meetingplanner.application.ports;
 
 import com.zenika.meetingplanner.domain.MeetingType;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MeetingTypeRepositoryPort {
 
     // Find meeting type by name
     Optional<MeetingType> findByName(String meetingTypeName);
+
+    // Get all meeting types
+    List<MeetingType> findAll();
 }
@@ -1,11 +1,23 @@
 package com.zenika.meetingplanner.application.ports;
 
+import com.zenika.meetingplanner.domain.MeetingType;
 import com.zenika.meetingplanner.domain.Room;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface RoomRepositoryPort {
 
     // Get all rooms
     List<Room> findAllRooms();
+
+    // Get all rooms with their equipment, without their reservations
+    List<Room> findAllRoomsWithEquipments();
+
+    // Get all rooms with their equipment and only the reservations on the given date
+    List<Room> findAllRoomsWithReservationsOn(LocalDate date);
+
+    // Get the most suitable room free for a meeting at the given date, hour and duration, selected by the storage
+    Optional<Room> findBestRoom(MeetingType meetingType, int participantCount, LocalDate date, int hour, int durationMinutes);
 }
@@ -0,0 +1,42 @@
+package com.zenika.meetingplanner.application.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Tells which dates are archived: the archive job moves the meetings dated more than
+ * {@code meetingplanner.archive.retention-days} days ago to the archive and deletes their room slot claims.
+ */
+@Service
+public class ArchivePolicy {
+
+    private final Clock clock;
+    private final int retentionDays;
+
+    public ArchivePolicy(Clock clock, @Value("${meetingplanner.archive.retention-days:90}") int retentionDays) {
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Returns the first date that is not archived on a given day.
+     *
+     * @param today The current date.
+     * @return The cutoff; earlier dates are archived.
+     */
+    public LocalDate cutoff(LocalDate today) {
+        return today.minusDays(retentionDays);
+    }
+
+    /**
+     * Returns the first date that is not archived today.
+     *
+     * @return The cutoff; earlier dates are archived.
+     */
+    public LocalDate cutoff() {
+        return cutoff(LocalDate.now(clock));
+    }
+}
@@ -0,0 +1,90 @@
+package com.zenika.meetingplanner.application.services;
+
+import com.zenika.meetingplanner.common.utils.RoomSuitabilityComparator;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable view of the room and meeting type catalog, with the rooms suitable for each meeting type
+ * precomputed and sorted from the best to the worst according to {@link RoomSuitabilityComparator}.
+ * A snapshot is never modified once built and can be read from any thread without locking.
+ * Its rooms and meeting types are shared and must not be modified either.
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final List<Room> rooms;
+    private final Map<String, Room> roomsByName;
+    private final Map<String, MeetingType> meetingTypesByName;
+    private final Map<String, List<Room>> candidatesByType;
+
+    private CatalogSnapshot(long version, List<Room> rooms, Map<String, Room> roomsByName,
+                            Map<String, MeetingType> meetingTypesByName, Map<String, List<Room>> candidatesByType) {
+        this.version = version;
+        this.rooms = rooms;
+        this.roomsByName = roomsByName;
+        this.meetingTypesByName = meetingTypesByName;
+        this.candidatesByType = candidatesByType;
+    }
+
+    /**
+     * Builds a snapshot from the rooms and meeting types of the catalog.
+     *
+     * @param version      The catalog version the snapshot was built from.
+     * @param rooms        The rooms, with their equipment.
+     * @param meetingTypes The meeting types, with their required equipment.
+     * @return The snapshot.
+     */
+    public static CatalogSnapshot of(long version, List<Room> rooms, List<MeetingType> meetingTypes) {
+        Map<String, Room> roomsByName = new HashMap<>();
+        rooms.forEach(room -> roomsByName.put(room.getName(), room));
+        Map<String, MeetingType> meetingTypesByName = new HashMap<>();
+        Map<String, List<Room>> candidatesByType = new HashMap<>();
+        for (MeetingType meetingType : meetingTypes) {
+            meetingTypesByName.put(meetingType.getName(), meetingType);
+            candidatesByType.put(meetingType.getName(), sortedCandidates(rooms, meetingType));
+        }
+        return new CatalogSnapshot(version, List.copyOf(rooms), Map.copyOf(roomsByName),
+                Map.copyOf(meetingTypesByName), Map.copyOf(candidatesByType));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public Optional<Room> findRoom(String roomName) {
+        return Optional.ofNullable(roomsByName.get(roomName));
+    }
+
+    public Optional<MeetingType> findMeetingType(String meetingTypeName) {
+        return Optional.ofNullable(meetingTypesByName.get(meetingTypeName));
+    }
+
+    /**
+     * Returns the rooms suitable for a meeting type, the most suitable first.
+     * Meeting types that are not in the snapshot are sorted on each call.
+     *
+     * @param meetingType The meeting type.
+     * @return The sorted candidate rooms.
+     */
+    public List<Room> getCandidates(MeetingType meetingType) {
+        List<Room> candidates = candidatesByType.get(meetingType.getName());
+        return candidates != null ? candidates : sortedCandidates(rooms, meetingType);
+    }
+
+    private static List<Room> sortedCandidates(List<Room> rooms, MeetingType meetingType) {
+        return rooms.stream()
+                .filter(room -> room.isSuitableForMeetingType(meetingType))
+                .sorted(new RoomSuitabilityComparator())
+                .toList();
+    }
+}
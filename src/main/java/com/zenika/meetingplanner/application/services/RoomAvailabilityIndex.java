@@ -0,0 +1,367 @@
+package com.zenika.meetingplanner.application.services;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.Room;
+import com.zenika.meetingplanner.domain.TimeWindow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory schedule of every room, keyed by date and room id.
+ * A date is loaded from the meeting repository the first time it is queried. Meetings are then booked with
+ * {@link #tryReserve(LocalDate, Long, int, int)}, a compare-and-set on the room's {@link DaySchedule}, so that two
+ * concurrent requests can never take the same room at overlapping times.
+ * Every meeting keeps a configurable cleaning buffer, one hour by default, before and after the other meetings.
+ * <p>
+ * Other instances book the same rooms, so the meetings of a date are read again from the repository when they are
+ * older than {@code meetingplanner.availability.refresh-seconds}, or right away when a save proves them stale.
+ * The reservations made here are kept apart from the meetings read, until a read shows them saved, so that a
+ * refresh never loses them and a release always finds them.
+ * Dates before today and dates not queried for {@code meetingplanner.availability.idle-eviction-seconds} are
+ * dropped by {@link #evict(LocalDate)}.
+ */
+@Service
+public class RoomAvailabilityIndex {
+
+    public static final long DEFAULT_REFRESH_SECONDS = 30;
+    public static final long DEFAULT_IDLE_EVICTION_SECONDS = 600;
+
+    private final MeetingRepositoryPort meetingRepository;
+    private final int bufferMinutes;
+    private final long refreshNanos;
+    private final long idleEvictionNanos;
+
+    private final Map<LocalDate, DateSchedules> schedulesByDate = new ConcurrentHashMap<>();
+
+    public RoomAvailabilityIndex(MeetingRepositoryPort meetingRepository, int bufferMinutes) {
+        this(meetingRepository, bufferMinutes, DEFAULT_REFRESH_SECONDS, DEFAULT_IDLE_EVICTION_SECONDS);
+    }
+
+    @Autowired
+    public RoomAvailabilityIndex(MeetingRepositoryPort meetingRepository,
+                                 @Value("${meetingplanner.booking.buffer-minutes:60}") int bufferMinutes,
+                                 @Value("${meetingplanner.availability.refresh-seconds:30}") long refreshSeconds,
+                                 @Value("${meetingplanner.availability.idle-eviction-seconds:600}") long idleEvictionSeconds) {
+        this.meetingRepository = meetingRepository;
+        this.bufferMinutes = bufferMinutes;
+        this.refreshNanos = TimeUnit.SECONDS.toNanos(refreshSeconds);
+        this.idleEvictionNanos = TimeUnit.SECONDS.toNanos(idleEvictionSeconds);
+    }
+
+    public int getBufferMinutes() {
+        return bufferMinutes;
+    }
+
+    /**
+     * Returns the schedule of a room on a given date.
+     *
+     * @param date   The date to look up.
+     * @param roomId The id of the room.
+     * @return The booked intervals of the room on the date.
+     */
+    public DaySchedule getSchedule(LocalDate date, Long roomId) {
+        AtomicReference<RoomSchedule> schedule = schedulesOn(date).get(roomId);
+        return schedule == null ? DaySchedule.EMPTY : schedule.get().booked();
+    }
+
+    /**
+     * Checks if a room is available for a one-hour meeting at a given date and hour.
+     *
+     * @param date   The date to check availability.
+     * @param roomId The id of the room.
+     * @param hour   The hour to check availability (e.g., 8, 9, 10).
+     * @return True if the room is available, false otherwise.
+     */
+    public boolean isAvailableAt(LocalDate date, Long roomId, int hour) {
+        return isAvailableAt(date, roomId, hour, Meeting.DEFAULT_DURATION_MINUTES);
+    }
+
+    /**
+     * Checks if a room is available for a meeting, keeping the cleaning buffer around the other meetings.
+     *
+     * @param date            The date to check availability.
+     * @param roomId          The id of the room.
+     * @param hour            The starting hour of the meeting.
+     * @param durationMinutes The length of the meeting, in minutes.
+     * @return True if the room is available, false otherwise.
+     */
+    public boolean isAvailableAt(LocalDate date, Long roomId, int hour, int durationMinutes) {
+        return getSchedule(date, roomId).isFree(hour * 60, hour * 60 + durationMinutes, bufferMinutes);
+    }
+
+    /**
+     * Finds the hours of a date a one-hour meeting can start at in a room.
+     *
+     * @param date   The date to check for availability.
+     * @param roomId The id of the room.
+     * @return The available starting hours from 8:00 to 20:00.
+     */
+    public List<Integer> findAvailableHoursOnDate(LocalDate date, Long roomId) {
+        return HourSlots.toList(findFreeHours(date, roomId, Meeting.DEFAULT_DURATION_MINUTES));
+    }
+
+    /**
+     * Returns the whole hours of the working day a meeting can start at in a room.
+     *
+     * @param date            The date to check for availability.
+     * @param roomId          The id of the room.
+     * @param durationMinutes The length of the meeting, in minutes.
+     * @return A mask where bit n is set when the meeting can start at hour n.
+     */
+    public int findFreeHours(LocalDate date, Long roomId, int durationMinutes) {
+        return getSchedule(date, roomId).freeHours(durationMinutes, bufferMinutes);
+    }
+
+    /**
+     * Walks the candidates from the best one and gives each working hour to the first room a meeting can start in.
+     * The walk stops as soon as every hour has a room.
+     *
+     * @param date            The day to evaluate.
+     * @param candidates      The candidate rooms, the best one first.
+     * @param durationMinutes The length of the meeting, in minutes.
+     * @return The best room indexed by hour, with null for the hours no room is free at.
+     */
+    public Room[] findBestRoomPerHour(LocalDate date, List<Room> candidates, int durationMinutes) {
+        Room[] bestRooms = new Room[HourSlots.HOURS_PER_DAY];
+        int unassigned = HourSlots.workingHours();
+        for (Room room : candidates) {
+            int free = findFreeHours(date, room.getId(), durationMinutes) & unassigned;
+            unassigned &= ~free;
+            while (free != 0) {
+                bestRooms[Integer.numberOfTrailingZeros(free)] = room;
+                free &= free - 1;
+            }
+            if (unassigned == 0) {
+                break;
+            }
+        }
+        return bestRooms;
+    }
+
+    /**
+     * Finds the free windows of the working day where a meeting fits in a room.
+     *
+     * @param date            The date to check for availability.
+     * @param roomId          The id of the room.
+     * @param durationMinutes The length of the meeting, in minutes.
+     * @return The free windows from 8:00 to 20:00, each at least durationMinutes long.
+     */
+    public List<TimeWindow> findFreeWindows(LocalDate date, Long roomId, int durationMinutes) {
+        return getSchedule(date, roomId).freeWindows(HourSlots.FIRST_HOUR * 60, HourSlots.LAST_HOUR * 60, durationMinutes, bufferMinutes);
+    }
+
+    /**
+     * Books a room for a one-hour meeting if it is available, atomically.
+     *
+     * @param date   The date of the meeting.
+     * @param roomId The id of the room.
+     * @param hour   The hour of the meeting.
+     * @return True if the hour was booked by this call, false if the room is not available.
+     */
+    public boolean tryReserve(LocalDate date, Long roomId, int hour) {
+        return tryReserve(date, roomId, hour, Meeting.DEFAULT_DURATION_MINUTES);
+    }
+
+    /**
+     * Books a room for a meeting if neither the meeting nor its cleaning buffers overlap another one, atomically.
+     * The booking must be released with {@link #release(LocalDate, Long, int, int)} if the meeting is not saved.
+     *
+     * @param date            The date of the meeting.
+     * @param roomId          The id of the room.
+     * @param hour            The starting hour of the meeting.
+     * @param durationMinutes The length of the meeting, in minutes.
+     * @return True if the meeting was booked by this call, false if the room is not available.
+     */
+    public boolean tryReserve(LocalDate date, Long roomId, int hour, int durationMinutes) {
+        AtomicReference<RoomSchedule> schedule = schedulesOn(date).computeIfAbsent(roomId, id -> new AtomicReference<>(RoomSchedule.EMPTY));
+        int start = hour * 60;
+        int end = start + durationMinutes;
+        RoomSchedule current;
+        do {
+            current = schedule.get();
+            if (!current.booked().isFree(start, end, bufferMinutes)) {
+                return false;
+            }
+        } while (!schedule.compareAndSet(current, current.reserve(start, end)));
+        return true;
+    }
+
+    /**
+     * Frees a one-hour meeting booked with {@link #tryReserve(LocalDate, Long, int)}.
+     *
+     * @param date   The date of the meeting.
+     * @param roomId The id of the room.
+     * @param hour   The hour of the meeting.
+     */
+    public void release(LocalDate date, Long roomId, int hour) {
+        release(date, roomId, hour, Meeting.DEFAULT_DURATION_MINUTES);
+    }
+
+    /**
+     * Frees a meeting booked with {@link #tryReserve(LocalDate, Long, int, int)}.
+     *
+     * @param date            The date of the meeting.
+     * @param roomId          The id of the room.
+     * @param hour            The starting hour of the meeting.
+     * @param durationMinutes The length of the meeting, in minutes.
+     */
+    public void release(LocalDate date, Long roomId, int hour, int durationMinutes) {
+        AtomicReference<RoomSchedule> schedule = schedulesOn(date).get(roomId);
+        if (schedule != null) {
+            schedule.getAndUpdate(current -> current.release(hour * 60, hour * 60 + durationMinutes));
+        }
+    }
+
+    /**
+     * Loads the schedules of a date if they are not loaded yet.
+     *
+     * @param date The date to load.
+     */
+    public void preload(LocalDate date) {
+        schedulesOn(date);
+    }
+
+    /**
+     * Reads the meetings of a date again and replaces those held here, when they are known to be stale,
+     * e.g. after another instance claimed a slot this one saw as free.
+     *
+     * @param date The date to refresh.
+     */
+    public void refresh(LocalDate date) {
+        DateSchedules entry = schedulesByDate.get(date);
+        if (entry != null) {
+            entry.loadedAt.set(System.nanoTime());
+            merge(entry, date);
+        }
+    }
+
+    /**
+     * Drops the schedules of the dates before a day and of the dates not queried for the idle eviction time.
+     * They are loaded again on their next query.
+     *
+     * @param today The first date to keep.
+     * @return The number of dates dropped.
+     */
+    public int evict(LocalDate today) {
+        long now = System.nanoTime();
+        int before = schedulesByDate.size();
+        schedulesByDate.entrySet().removeIf(entry -> entry.getKey().isBefore(today)
+                || now - entry.getValue().accessedAt >= idleEvictionNanos);
+        return before - schedulesByDate.size();
+    }
+
+    /**
+     * Returns the number of dates whose schedules are held in memory.
+     *
+     * @return The number of loaded dates.
+     */
+    public int loadedDateCount() {
+        return schedulesByDate.size();
+    }
+
+    /**
+     * Returns the schedule of every room on a date, loading them on first access and refreshing them once they
+     * are older than the refresh period. A single caller refreshes a date at a time; the others keep reading the
+     * current schedules meanwhile.
+     *
+     * @param date The date to look up.
+     * @return The schedules per room id.
+     */
+    private Map<Long, AtomicReference<RoomSchedule>> schedulesOn(LocalDate date) {
+        DateSchedules entry = schedulesByDate.get(date);
+        if (entry == null) {
+            return schedulesByDate.computeIfAbsent(date, this::load).rooms;
+        }
+        long now = System.nanoTime();
+        entry.accessedAt = now;
+        long loadedAt = entry.loadedAt.get();
+        if (now - loadedAt >= refreshNanos && entry.loadedAt.compareAndSet(loadedAt, now)) {
+            merge(entry, date);
+        }
+        return entry.rooms;
+    }
+
+    private DateSchedules load(LocalDate date) {
+        Map<Long, AtomicReference<RoomSchedule>> rooms = new ConcurrentHashMap<>();
+        readSchedules(date).forEach((roomId, schedule) -> rooms.put(roomId, new AtomicReference<>(RoomSchedule.EMPTY.withSaved(schedule))));
+        return new DateSchedules(rooms, System.nanoTime());
+    }
+
+    /**
+     * Replaces the meetings of a date with those read from the repository, keeping the reservations made here
+     * that are not saved yet.
+     *
+     * @param entry The schedules of the date.
+     * @param date  The date to read.
+     */
+    private void merge(DateSchedules entry, LocalDate date) {
+        Map<Long, DaySchedule> schedules = readSchedules(date);
+        schedules.keySet().forEach(roomId -> entry.rooms.computeIfAbsent(roomId, id -> new AtomicReference<>(RoomSchedule.EMPTY)));
+        entry.rooms.forEach((roomId, schedule) ->
+                schedule.getAndUpdate(current -> current.withSaved(schedules.getOrDefault(roomId, DaySchedule.EMPTY))));
+    }
+
+    private Map<Long, DaySchedule> readSchedules(LocalDate date) {
+        Map<Long, List<Meeting>> meetingsByRoom = new HashMap<>();
+        for (Meeting meeting : meetingRepository.findAllByDate(date)) {
+            meetingsByRoom.computeIfAbsent(meeting.getRoom().getId(), id -> new ArrayList<>()).add(meeting);
+        }
+        Map<Long, DaySchedule> schedules = new HashMap<>();
+        meetingsByRoom.forEach((roomId, meetings) -> schedules.put(roomId, DaySchedule.of(meetings)));
+        return schedules;
+    }
+
+    /**
+     * The schedules of the rooms on one date, with the time they were last read from the repository and queried.
+     */
+    private static final class DateSchedules {
+
+        private final Map<Long, AtomicReference<RoomSchedule>> rooms;
+        private final AtomicLong loadedAt;
+        private volatile long accessedAt;
+
+        private DateSchedules(Map<Long, AtomicReference<RoomSchedule>> rooms, long loadedAt) {
+            this.rooms = rooms;
+            this.loadedAt = new AtomicLong(loadedAt);
+            this.accessedAt = loadedAt;
+        }
+    }
+
+    /**
+     * The schedule of a room on one date: the meetings last read from the repository, the reservations made here
+     * and not seen saved yet, and both together.
+     */
+    private record RoomSchedule(DaySchedule saved, DaySchedule pending, DaySchedule booked) {
+
+        private static final RoomSchedule EMPTY = new RoomSchedule(DaySchedule.EMPTY, DaySchedule.EMPTY, DaySchedule.EMPTY);
+
+        private RoomSchedule reserve(int start, int end) {
+            return new RoomSchedule(saved, pending.with(start, end), booked.with(start, end));
+        }
+
+        private RoomSchedule release(int start, int end) {
+            DaySchedule released = pending.without(start, end);
+            return released == pending ? this : new RoomSchedule(saved, released, saved.union(released));
+        }
+
+        private RoomSchedule withSaved(DaySchedule read) {
+            // A reservation read back from the repository is saved: it is no longer released by this instance
+            DaySchedule stillPending = pending.minus(read);
+            return new RoomSchedule(read, stillPending, read.union(stillPending));
+        }
+    }
+}
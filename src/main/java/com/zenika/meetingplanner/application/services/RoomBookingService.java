@@ -0,0 +1,148 @@
+package com.zenika.meetingplanner.application.services;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.common.dtos.AvailableSlotDto;
+import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.Room;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Books meetings in the best available room.
+ * A slot is first reserved in the {@link RoomAvailabilityIndex} of this instance, then claimed in the database
+ * when the meeting is saved. If another instance claimed it first, the next best room is tried.
+ */
+@Service
+public class RoomBookingService {
+
+    public static final int MAX_NEAREST_HOURS = 3;
+    public static final int ALTERNATIVE_SEARCH_DAYS = 7;
+
+    private final RoomCatalog roomCatalog;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final MeetingRepositoryPort meetingRepository;
+
+    public RoomBookingService(RoomCatalog roomCatalog, RoomAvailabilityIndex roomAvailabilityIndex, MeetingRepositoryPort meetingRepository) {
+        this.roomCatalog = roomCatalog;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.meetingRepository = meetingRepository;
+    }
+
+    /**
+     * Reserves the best available room for a meeting and saves it.
+     *
+     * @param meeting The meeting to book, with its type, participant count, date and hour.
+     * @return The saved meeting, with its room.
+     * @throws NoSuitableRoomException If no suitable room is free at the meeting's date and hour.
+     */
+    public Meeting book(Meeting meeting) {
+        reserveBestRoom(meeting);
+        return saveReserved(meeting);
+    }
+
+    /**
+     * Reserves the best available room for a meeting in memory and assigns it to the meeting, without saving it.
+     *
+     * @param meeting The meeting to place, with its type, participant count, date and hour.
+     * @return The reserved room.
+     * @throws NoSuitableRoomException If no suitable room is free for the whole meeting.
+     */
+    public Room reserveBestRoom(Meeting meeting) {
+        // Walk the suitable rooms with enough capacity from the best one and reserve the first with a free slot
+        List<Room> candidates = roomCatalog.getCandidates(meeting.getType()).stream()
+                .filter(candidate -> candidate.hasCapacity(meeting.getParticipantCount()))
+                .toList();
+        for (Room candidate : candidates) {
+            if (roomAvailabilityIndex.tryReserve(meeting.getDate(), candidate.getId(), meeting.getHour(), meeting.getDurationMinutes())) {
+                meeting.setRoom(candidate);
+                return candidate;
+            }
+        }
+        throw new NoSuitableRoomException("No suitable room found for the given meeting type, capacity, and time.",
+                findAlternatives(meeting, candidates));
+    }
+
+    /**
+     * Suggests other slots for a meeting no candidate room is free for: the free hours of the best room nearest to
+     * the requested one, then the best room free at the requested hour on one of the next
+     * {@value #ALTERNATIVE_SEARCH_DAYS} days.
+     *
+     * @param meeting    The meeting that could not be placed.
+     * @param candidates The suitable rooms with enough capacity, the best one first.
+     * @return The alternatives, the best one first, or an empty list if no room is suitable.
+     */
+    private List<AvailableSlotDto> findAlternatives(Meeting meeting, List<Room> candidates) {
+        List<AvailableSlotDto> alternatives = new ArrayList<>(MAX_NEAREST_HOURS + 1);
+        if (candidates.isEmpty()) {
+            return alternatives;
+        }
+
+        // The free hours of the best room on the same day, nearest first and the earlier one first on a tie
+        Room bestRoom = candidates.get(0);
+        int freeHours = roomAvailabilityIndex.findFreeHours(meeting.getDate(), bestRoom.getId(), meeting.getDurationMinutes());
+        HourSlots.toList(freeHours).stream()
+                .sorted(Comparator.comparingInt(hour -> Math.abs(hour - meeting.getHour())))
+                .limit(MAX_NEAREST_HOURS)
+                .forEach(hour -> alternatives.add(toSlot(meeting.getDate(), hour, bestRoom)));
+
+        // The best room free at the requested hour, on the first next day one is
+        for (int day = 1; day <= ALTERNATIVE_SEARCH_DAYS; day++) {
+            LocalDate date = meeting.getDate().plusDays(day);
+            for (Room candidate : candidates) {
+                if (roomAvailabilityIndex.isAvailableAt(date, candidate.getId(), meeting.getHour(), meeting.getDurationMinutes())) {
+                    alternatives.add(toSlot(date, meeting.getHour(), candidate));
+                    return alternatives;
+                }
+            }
+        }
+        return alternatives;
+    }
+
+    private static AvailableSlotDto toSlot(LocalDate date, int hour, Room room) {
+        return AvailableSlotDto.builder()
+                .date(date.toString())
+                .hour(hour)
+                .roomName(room.getName())
+                .build();
+    }
+
+    /**
+     * Saves a meeting whose room was reserved with {@link #reserveBestRoom(Meeting)}.
+     * When the room was claimed concurrently by another instance, the slot stays reserved here, the schedules of the
+     * date are refreshed and the meeting moves to the next best room.
+     *
+     * @param meeting The meeting to save.
+     * @return The saved meeting, possibly in another room.
+     * @throws NoSuitableRoomException If every suitable room was taken concurrently.
+     */
+    public Meeting saveReserved(Meeting meeting) {
+        while (true) {
+            try {
+                return meetingRepository.save(meeting);
+            } catch (RoomSlotTakenException e) {
+                // The schedules of the date missed a booking of another instance: read them again before moving
+                roomAvailabilityIndex.refresh(meeting.getDate());
+                reserveBestRoom(meeting);
+            } catch (RuntimeException e) {
+                release(meeting);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Frees the slot reserved for a meeting that will not be saved.
+     *
+     * @param meeting The meeting, with its room.
+     */
+    public void release(Meeting meeting) {
+        roomAvailabilityIndex.release(meeting.getDate(), meeting.getRoom().getId(), meeting.getHour(), meeting.getDurationMinutes());
+    }
+}
@@ -0,0 +1,107 @@
+package com.zenika.meetingplanner.application.services;
+
+import com.zenika.meetingplanner.application.events.CatalogChangedEvent;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the current {@link CatalogSnapshot} of rooms and meeting types.
+ * The snapshot is built by {@link StartupWarmUp} before the application reports ready, then replaced by a new one
+ * after every {@link CatalogChangedEvent}, whether the change was made by this instance or seen in the database by the
+ * catalog version poll. Readers keep using the previous snapshot, without locking, until the new
+ * one is swapped in.
+ */
+@Service
+public class RoomCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomCatalog.class);
+
+    private final RoomRepositoryPort roomRepository;
+    private final MeetingTypeRepositoryPort meetingTypeRepository;
+
+    // Incremented on every change; a snapshot built while it moved is rebuilt before being published
+    private final AtomicLong version = new AtomicLong();
+    private volatile CatalogSnapshot snapshot;
+
+    public RoomCatalog(RoomRepositoryPort roomRepository, MeetingTypeRepositoryPort meetingTypeRepository) {
+        this.roomRepository = roomRepository;
+        this.meetingTypeRepository = meetingTypeRepository;
+    }
+
+    /**
+     * Returns the current snapshot, building it on first use.
+     *
+     * @return The catalog snapshot.
+     */
+    public CatalogSnapshot getSnapshot() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Returns the rooms suitable for a meeting type, the most suitable first.
+     * The participant count and availability still have to be checked by the caller.
+     *
+     * @param meetingType The meeting type.
+     * @return The sorted candidate rooms. The list and its rooms are shared and must not be modified.
+     */
+    public List<Room> getCandidates(MeetingType meetingType) {
+        return getSnapshot().getCandidates(meetingType);
+    }
+
+    /**
+     * Finds a meeting type by its name in the snapshot, or in the repository when it is not there yet.
+     *
+     * @param meetingTypeName The name of the meeting type.
+     * @return An Optional containing the meeting type.
+     */
+    public Optional<MeetingType> findMeetingType(String meetingTypeName) {
+        Optional<MeetingType> meetingType = getSnapshot().findMeetingType(meetingTypeName);
+        return meetingType.isPresent() ? meetingType : meetingTypeRepository.findByName(meetingTypeName);
+    }
+
+    /**
+     * Builds a new snapshot once a catalog change is committed and swaps it in.
+     * If the build fails, the previous snapshot stays in use until the next change.
+     *
+     * @param event The catalog change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        version.incrementAndGet();
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Could not rebuild the catalog snapshot after a change of {}, keeping version {}",
+                    event.source(), snapshot != null ? snapshot.getVersion() : null, e);
+        }
+    }
+
+    private synchronized CatalogSnapshot refresh() {
+        while (true) {
+            long target = version.get();
+            CatalogSnapshot current = snapshot;
+            if (current != null && current.getVersion() == target) {
+                return current;
+            }
+            long start = System.nanoTime();
+            CatalogSnapshot built = CatalogSnapshot.of(target, roomRepository.findAllRoomsWithEquipments(), meetingTypeRepository.findAll());
+            if (version.get() == target) {
+                snapshot = built;
+                logger.info("Built catalog snapshot version {} with {} rooms in {} ms",
+                        target, built.getRooms().size(), (System.nanoTime() - start) / 1_000_000);
+                return built;
+            }
+        }
+    }
+}
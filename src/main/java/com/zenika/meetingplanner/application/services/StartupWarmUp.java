@@ -0,0 +1,52 @@
+package com.zenika.meetingplanner.application.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Builds the catalog snapshot and loads the availability of the coming days once the application has started.
+ * Application runners complete before Spring Boot switches the readiness state to {@code ACCEPTING_TRAFFIC},
+ * so {@code /actuator/health/readiness} only reports UP once the first requests no longer pay for loading them.
+ */
+@Component
+public class StartupWarmUp implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    private final RoomCatalog roomCatalog;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final Clock clock;
+    private final int days;
+
+    public StartupWarmUp(RoomCatalog roomCatalog, RoomAvailabilityIndex roomAvailabilityIndex, Clock clock,
+                         @Value("${meetingplanner.warm-up.days:7}") int days) {
+        this.roomCatalog = roomCatalog;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.clock = clock;
+        this.days = days;
+    }
+
+    /**
+     * Warms the catalog snapshot, then the availability index from today for the configured number of days.
+     *
+     * @param args The application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        CatalogSnapshot snapshot = roomCatalog.getSnapshot();
+        LocalDate today = LocalDate.now(clock);
+        for (int day = 0; day < days; day++) {
+            roomAvailabilityIndex.preload(today.plusDays(day));
+        }
+        logger.info("Warmed up {} rooms and {} days of availability in {} ms",
+                snapshot.getRooms().size(), days, (System.nanoTime() - start) / 1_000_000);
+    }
+}
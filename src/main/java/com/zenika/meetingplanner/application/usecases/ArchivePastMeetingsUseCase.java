@@ -0,0 +1,73 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.JobLockPort;
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Service
+public class ArchivePastMeetingsUseCase {
+
+    public static final String LOCK_NAME = "meeting-archive";
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchivePastMeetingsUseCase.class);
+
+    private final MeetingRepositoryPort meetingRepository;
+    private final JobLockPort jobLock;
+    private final ArchivePolicy archivePolicy;
+    private final int chunkSize;
+    private final Duration lockAtMostFor;
+
+    public ArchivePastMeetingsUseCase(MeetingRepositoryPort meetingRepository, JobLockPort jobLock, ArchivePolicy archivePolicy,
+                                      @Value("${meetingplanner.archive.chunk-size:1000}") int chunkSize,
+                                      @Value("${meetingplanner.archive.lock-at-most-for:PT1H}") Duration lockAtMostFor) {
+        this.meetingRepository = meetingRepository;
+        this.jobLock = jobLock;
+        this.archivePolicy = archivePolicy;
+        this.chunkSize = chunkSize;
+        this.lockAtMostFor = lockAtMostFor;
+    }
+
+    /**
+     * Moves the meetings older than the retention period to the archive, one chunk per transaction,
+     * so that locks and undo logs stay bounded however much history has piled up.
+     * The room slot claims of the same dates are then deleted the same way.
+     * Only the instance holding the {@value #LOCK_NAME} lock archives; the others skip the run.
+     *
+     * @param today The current date.
+     * @return The number of archived meetings, 0 when another instance is archiving.
+     */
+    public int execute(LocalDate today) {
+        if (!jobLock.tryLock(LOCK_NAME, lockAtMostFor)) {
+            logger.info("Skipped the archive, another instance is running it");
+            return 0;
+        }
+        try {
+            LocalDate cutoff = archivePolicy.cutoff(today);
+            int archived = 0;
+            int moved;
+            do {
+                moved = meetingRepository.archiveBefore(cutoff, chunkSize);
+                archived += moved;
+            } while (moved == chunkSize);
+
+            int deletedClaims = 0;
+            int deleted;
+            do {
+                deleted = meetingRepository.deleteSlotClaimsBefore(cutoff, chunkSize);
+                deletedClaims += deleted;
+            } while (deleted == chunkSize);
+
+            logger.info("Archived {} meetings and deleted {} room slot claims dated before {}", archived, deletedClaims, cutoff);
+            return archived;
+        } finally {
+            jobLock.unlock(LOCK_NAME);
+        }
+    }
+}
@@ -1,35 +1,34 @@
 package com.zenika.meetingplanner.application.usecases;
 
-import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
-import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
-import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import com.zenika.meetingplanner.application.services.RoomBookingService;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
 import com.zenika.meetingplanner.common.dtos.MeetingRequestDto;
 import com.zenika.meetingplanner.common.dtos.MeetingResponseDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDateException;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDurationException;
 import com.zenika.meetingplanner.common.exceptions.InvalidMeetingHourException;
 import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
-import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
-import com.zenika.meetingplanner.common.utils.RoomSuitabilityComparator;
+import com.zenika.meetingplanner.domain.HourSlots;
 import com.zenika.meetingplanner.domain.Meeting;
 import com.zenika.meetingplanner.domain.MeetingType;
-import com.zenika.meetingplanner.domain.Room;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 @Service
 public class AssignMeetingToBestRoomUseCase {
 
-    private final RoomRepositoryPort roomRepository;
-    private final MeetingRepositoryPort meetingRepository;
-    private final MeetingTypeRepositoryPort meetingTypeRepositoryPort;
+    private final RoomBookingService roomBookingService;
+    private final RoomCatalog roomCatalog;
+    private final ArchivePolicy archivePolicy;
 
 
-    public AssignMeetingToBestRoomUseCase(RoomRepositoryPort roomRepository, MeetingRepositoryPort meetingRepository, MeetingTypeRepositoryPort meetingTypeRepositoryPort) {
-        this.roomRepository = roomRepository;
-        this.meetingRepository = meetingRepository;
-        this.meetingTypeRepositoryPort = meetingTypeRepositoryPort;
+    public AssignMeetingToBestRoomUseCase(RoomBookingService roomBookingService, RoomCatalog roomCatalog, ArchivePolicy archivePolicy) {
+        this.roomBookingService = roomBookingService;
+        this.roomCatalog = roomCatalog;
+        this.archivePolicy = archivePolicy;
     }
 
     /**
@@ -42,13 +41,26 @@ public class AssignMeetingToBestRoomUseCase {
         // Parse meeting date
         LocalDate meetingDate = LocalDate.parse(requestDto.getMeetingDate());
 
+        // Archived dates lose their slot claims, so they cannot be booked
+        LocalDate cutoff = archivePolicy.cutoff();
+        if (meetingDate.isBefore(cutoff)) {
+            throw new InvalidMeetingDateException("Meeting date must not be before " + cutoff + ", earlier dates are archived.");
+        }
+
         //validate Hour
         if (requestDto.getMeetingHour() < 8 || requestDto.getMeetingHour() > 20) {
             throw new InvalidMeetingHourException("Meeting hour must be between 8 and 20.");
         }
 
+        // Validate duration, which defaults to one hour
+        int durationMinutes = requestDto.getDurationMinutes() != null ? requestDto.getDurationMinutes() : Meeting.DEFAULT_DURATION_MINUTES;
+        if (durationMinutes < Meeting.MIN_DURATION_MINUTES || durationMinutes > Meeting.MAX_DURATION_MINUTES
+                || requestDto.getMeetingHour() * 60 + durationMinutes > HourSlots.LAST_HOUR * 60) {
+            throw new InvalidMeetingDurationException("Meeting duration must be between 30 and 720 minutes and end by 20:00.");
+        }
+
         // Convert meetingType
-        Optional<MeetingType> meetingTypeOptional = meetingTypeRepositoryPort.findByName(requestDto.getMeetingType());
+        Optional<MeetingType> meetingTypeOptional = roomCatalog.findMeetingType(requestDto.getMeetingType());
 
         // If not present, throw a custom exception
         meetingTypeOptional.orElseThrow(() -> new MeetingTypeNotFoundException(requestDto.getMeetingType()));
@@ -56,34 +68,17 @@ public class AssignMeetingToBestRoomUseCase {
         // Get the MeetingType
         MeetingType meetingType = meetingTypeOptional.get();
 
-        // Fetch all rooms
-        List<Room> rooms = roomRepository.findAllRooms();
-
-        // Find the best room
-        Optional<Room> bestRoom = rooms.stream()
-                .filter(room -> room.isSuitableForMeetingType(meetingType)
-                        && room.hasCapacity(requestDto.getParticipantCount())
-                        && room.isAvailableAt(meetingDate, requestDto.getMeetingHour()))
-                .min(new RoomSuitabilityComparator());
-
-        if (bestRoom.isEmpty()) {
-            throw new NoSuitableRoomException("No suitable room found for the given meeting type, capacity, and time.");
-        }
-
         // Create the meeting
-        Room assignedRoom = bestRoom.get();
         Meeting meeting = Meeting.builder()
                 .type(meetingType)
                 .participantCount(requestDto.getParticipantCount())
                 .date(meetingDate)
                 .hour(requestDto.getMeetingHour())
-                .room(assignedRoom)
+                .durationMinutes(durationMinutes)
                 .build();
 
-        // Save the meeting
-        Meeting savedMeeting = meetingRepository.save(meeting);
-
-        System.out.println(savedMeeting.getRoom().getName());
+        // Book the best available room and save the meeting
+        Meeting savedMeeting = roomBookingService.book(meeting);
 
         // Return response DTO
         return MeetingResponseDto.builder()
@@ -91,6 +86,7 @@ public class AssignMeetingToBestRoomUseCase {
                 .participantCount(savedMeeting.getParticipantCount())
                 .meetingDate(savedMeeting.getDate().toString())
                 .meetingHour(savedMeeting.getHour())
+                .durationMinutes(savedMeeting.getDurationMinutes())
                 .assignedRoomName(savedMeeting.getRoom().getName())
                 .build();
     }
@@ -0,0 +1,177 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import com.zenika.meetingplanner.application.services.RoomBookingService;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.common.dtos.MeetingAssignmentResultDto;
+import com.zenika.meetingplanner.common.dtos.MeetingRequestDto;
+import com.zenika.meetingplanner.common.dtos.MeetingResponseDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDateException;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDurationException;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingHourException;
+import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
+import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AssignMeetingsInBatchUseCase {
+
+    private final RoomBookingService roomBookingService;
+    private final MeetingRepositoryPort meetingRepository;
+    private final RoomCatalog roomCatalog;
+    private final ArchivePolicy archivePolicy;
+
+    public AssignMeetingsInBatchUseCase(RoomBookingService roomBookingService, MeetingRepositoryPort meetingRepository, RoomCatalog roomCatalog, ArchivePolicy archivePolicy) {
+        this.roomBookingService = roomBookingService;
+        this.meetingRepository = meetingRepository;
+        this.roomCatalog = roomCatalog;
+        this.archivePolicy = archivePolicy;
+    }
+
+    /**
+     * Assigns a list of meetings to their best available rooms, in order, and saves them together.
+     * Each assigned slot is reserved right away, so meetings assigned earlier in the batch are taken into account
+     * for the next ones.
+     * A request that cannot be assigned is reported in its result and does not stop the others.
+     *
+     * @param requestDtos The meeting creation requests.
+     * @return One result per request, in the same order.
+     */
+    public List<MeetingAssignmentResultDto> execute(List<MeetingRequestDto> requestDtos) {
+        MeetingAssignmentResultDto[] results = new MeetingAssignmentResultDto[requestDtos.size()];
+        Map<Integer, Meeting> meetingsByIndex = new LinkedHashMap<>();
+        try {
+            for (int index = 0; index < requestDtos.size(); index++) {
+                try {
+                    meetingsByIndex.put(index, assign(requestDtos.get(index)));
+                } catch (InvalidMeetingDateException | InvalidMeetingHourException | InvalidMeetingDurationException | MeetingTypeNotFoundException e) {
+                    results[index] = failure(index, e.getMessage());
+                } catch (NoSuitableRoomException e) {
+                    results[index] = failure(index, e);
+                } catch (DateTimeParseException e) {
+                    results[index] = failure(index, "Invalid date format: " + e.getParsedString());
+                }
+            }
+        } catch (RuntimeException e) {
+            // An unexpected error aborts the batch: free the slots already reserved for it
+            meetingsByIndex.values().forEach(roomBookingService::release);
+            throw e;
+        }
+
+        if (!meetingsByIndex.isEmpty()) {
+            try {
+                // Save every assigned meeting at once
+                meetingRepository.saveAll(new ArrayList<>(meetingsByIndex.values()));
+            } catch (RoomSlotTakenException e) {
+                // Another instance claimed one of the rooms: save the meetings one by one, moving the conflicting ones
+                saveOneByOne(meetingsByIndex, results);
+            } catch (RuntimeException e) {
+                meetingsByIndex.values().forEach(roomBookingService::release);
+                throw e;
+            }
+        }
+
+        meetingsByIndex.forEach((index, meeting) -> results[index] = MeetingAssignmentResultDto.builder()
+                .index(index)
+                .assigned(true)
+                .meeting(toResponseDto(meeting))
+                .build());
+        return List.of(results);
+    }
+
+    private Meeting assign(MeetingRequestDto requestDto) {
+        // Parse meeting date
+        LocalDate meetingDate = LocalDate.parse(requestDto.getMeetingDate());
+        int hour = requestDto.getMeetingHour();
+
+        // Archived dates lose their slot claims, so they cannot be booked
+        LocalDate cutoff = archivePolicy.cutoff();
+        if (meetingDate.isBefore(cutoff)) {
+            throw new InvalidMeetingDateException("Meeting date must not be before " + cutoff + ", earlier dates are archived.");
+        }
+
+        //validate Hour
+        if (hour < 8 || hour > 20) {
+            throw new InvalidMeetingHourException("Meeting hour must be between 8 and 20.");
+        }
+
+        // Validate duration, which defaults to one hour
+        int durationMinutes = requestDto.getDurationMinutes() != null ? requestDto.getDurationMinutes() : Meeting.DEFAULT_DURATION_MINUTES;
+        if (durationMinutes < Meeting.MIN_DURATION_MINUTES || durationMinutes > Meeting.MAX_DURATION_MINUTES
+                || hour * 60 + durationMinutes > HourSlots.LAST_HOUR * 60) {
+            throw new InvalidMeetingDurationException("Meeting duration must be between 30 and 720 minutes and end by 20:00.");
+        }
+
+        // Get the MeetingType
+        MeetingType meetingType = roomCatalog.findMeetingType(requestDto.getMeetingType())
+                .orElseThrow(() -> new MeetingTypeNotFoundException(requestDto.getMeetingType()));
+
+        // Reserve the best available room
+        Meeting meeting = Meeting.builder()
+                .type(meetingType)
+                .participantCount(requestDto.getParticipantCount())
+                .date(meetingDate)
+                .hour(hour)
+                .durationMinutes(durationMinutes)
+                .build();
+        roomBookingService.reserveBestRoom(meeting);
+        return meeting;
+    }
+
+    private void saveOneByOne(Map<Integer, Meeting> meetingsByIndex, MeetingAssignmentResultDto[] results) {
+        Iterator<Map.Entry<Integer, Meeting>> iterator = meetingsByIndex.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, Meeting> entry = iterator.next();
+            try {
+                roomBookingService.saveReserved(entry.getValue());
+            } catch (NoSuitableRoomException e) {
+                results[entry.getKey()] = failure(entry.getKey(), e);
+                iterator.remove();
+            } catch (RuntimeException e) {
+                iterator.forEachRemaining(remaining -> roomBookingService.release(remaining.getValue()));
+                throw e;
+            }
+        }
+    }
+
+    private static MeetingResponseDto toResponseDto(Meeting meeting) {
+        return MeetingResponseDto.builder()
+                .meetingType(meeting.getType().getName())
+                .participantCount(meeting.getParticipantCount())
+                .meetingDate(meeting.getDate().toString())
+                .meetingHour(meeting.getHour())
+                .durationMinutes(meeting.getDurationMinutes())
+                .assignedRoomName(meeting.getRoom().getName())
+                .build();
+    }
+
+    private static MeetingAssignmentResultDto failure(int index, String error) {
+        return MeetingAssignmentResultDto.builder()
+                .index(index)
+                .assigned(false)
+                .error(error)
+                .build();
+    }
+
+    private static MeetingAssignmentResultDto failure(int index, NoSuitableRoomException e) {
+        return MeetingAssignmentResultDto.builder()
+                .index(index)
+                .assigned(false)
+                .error(e.getMessage())
+                .alternatives(e.getAlternatives())
+                .build();
+    }
+}
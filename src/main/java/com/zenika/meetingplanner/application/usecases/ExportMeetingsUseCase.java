@@ -0,0 +1,50 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.common.dtos.MeetingResponseDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidDateRangeException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+@Service
+public class ExportMeetingsUseCase {
+
+    private final MeetingRepositoryPort meetingRepositoryPort;
+
+    public ExportMeetingsUseCase(MeetingRepositoryPort meetingRepositoryPort) {
+        this.meetingRepositoryPort = meetingRepositoryPort;
+    }
+
+    /**
+     * Checks an export range, so that an invalid request can be rejected before the export starts.
+     *
+     * @param from The first date, included.
+     * @param to   The last date, included.
+     */
+    public void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException("The start date must not be after the end date.");
+        }
+    }
+
+    /**
+     * Streams every meeting of a date range to a consumer, one at a time, ordered by date and hour.
+     *
+     * @param from     The first date, included.
+     * @param to       The last date, included.
+     * @param consumer Called once per meeting with its response DTO.
+     */
+    public void execute(LocalDate from, LocalDate to, Consumer<MeetingResponseDto> consumer) {
+        checkRange(from, to);
+        meetingRepositoryPort.forEachInDateRange(from, to, meeting -> consumer.accept(MeetingResponseDto.builder()
+                .meetingType(meeting.getType() != null ? meeting.getType().getName() : null)
+                .participantCount(meeting.getParticipantCount())
+                .meetingDate(meeting.getDate().toString())
+                .meetingHour(meeting.getHour())
+                .durationMinutes(meeting.getDurationMinutes())
+                .assignedRoomName(meeting.getRoom() != null ? meeting.getRoom().getName() : null)
+                .build()));
+    }
+}
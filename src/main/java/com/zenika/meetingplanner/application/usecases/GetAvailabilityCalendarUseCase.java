@@ -0,0 +1,104 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.common.dtos.AvailabilityCalendarDto;
+import com.zenika.meetingplanner.common.dtos.DayAvailabilityDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidDateRangeException;
+import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+@Service
+public class GetAvailabilityCalendarUseCase {
+
+    private final RoomCatalog roomCatalog;
+
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+
+    private final Executor executor;
+
+    private final int maxDays;
+
+    public GetAvailabilityCalendarUseCase(RoomCatalog roomCatalog,
+                                          RoomAvailabilityIndex roomAvailabilityIndex,
+                                          @Qualifier("applicationTaskExecutor") Executor executor,
+                                          @Value("${meetingplanner.calendar.max-days:31}") int maxDays) {
+        this.roomCatalog = roomCatalog;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.executor = executor;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * Finds the best room for every working hour of every day in a date range.
+     * The candidate rooms are read once and each day is evaluated in parallel on the application task executor.
+     *
+     * @param meetingTypeName  The type of meeting (defines equipment requirements).
+     * @param requiredCapacity The required capacity for the meeting.
+     * @param startDate        The first day of the range.
+     * @param endDate          The last day of the range, included.
+     * @return A DTO holding, for each day, the best room of each hour.
+     */
+    public AvailabilityCalendarDto execute(String meetingTypeName, int requiredCapacity, LocalDate startDate, LocalDate endDate) {
+        // Validate the range
+        long dayCount = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (dayCount < 1 || dayCount > maxDays) {
+            throw new InvalidDateRangeException("The date range must span between 1 and " + maxDays + " days.");
+        }
+
+        // Get the MeetingType
+        MeetingType meetingType = roomCatalog.findMeetingType(meetingTypeName)
+                .orElseThrow(() -> new MeetingTypeNotFoundException(meetingTypeName));
+
+        // Keep the suitable rooms with enough capacity, the best one first
+        List<Room> candidates = roomCatalog.getCandidates(meetingType).stream()
+                .filter(room -> room.hasCapacity(requiredCapacity))
+                .toList();
+
+        // Evaluate each day in parallel
+        List<CompletableFuture<DayAvailabilityDto>> days = new ArrayList<>((int) dayCount);
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            LocalDate day = date;
+            days.add(CompletableFuture.supplyAsync(() -> evaluateDay(candidates, day), executor));
+        }
+
+        return AvailabilityCalendarDto.builder()
+                .meetingType(meetingType.getName())
+                .requiredCapacity(requiredCapacity)
+                .hours(IntStream.range(HourSlots.FIRST_HOUR, HourSlots.LAST_HOUR).boxed().toList())
+                .days(days.stream().map(CompletableFuture::join).toList())
+                .build();
+    }
+
+    /**
+     * Finds the best room of each working hour of a day.
+     *
+     * @param candidates The candidate rooms, the best one first.
+     * @param date       The day to evaluate.
+     * @return The best room name of each working hour of the day.
+     */
+    private DayAvailabilityDto evaluateDay(List<Room> candidates, LocalDate date) {
+        Room[] bestRooms = roomAvailabilityIndex.findBestRoomPerHour(date, candidates, Meeting.DEFAULT_DURATION_MINUTES);
+        return DayAvailabilityDto.builder()
+                .date(date.toString())
+                .bestRooms(Arrays.stream(bestRooms, HourSlots.FIRST_HOUR, HourSlots.LAST_HOUR)
+                        .map(room -> room == null ? null : room.getName())
+                        .toList())
+                .build();
+    }
+}
@@ -1,12 +1,14 @@
 package com.zenika.meetingplanner.application.usecases;
 
-import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
-import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
 import com.zenika.meetingplanner.common.dtos.RoomWithAvailableHoursDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDurationException;
 import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
 import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
-import com.zenika.meetingplanner.common.utils.RoomSuitabilityComparator;
 import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
 import com.zenika.meetingplanner.domain.MeetingType;
 import com.zenika.meetingplanner.domain.Room;
 import org.springframework.stereotype.Service;
@@ -18,18 +20,18 @@ import java.util.Optional;
 @Service
 public class GetBestRoomWithAvailableHoursUseCase {
 
-    private final RoomRepositoryPort roomRepository;
+    private final RoomCatalog roomCatalog;
 
-    private final MeetingTypeRepositoryPort meetingTypeRepositoryPort;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
 
-    public GetBestRoomWithAvailableHoursUseCase(RoomRepositoryPort roomRepository, MeetingTypeRepositoryPort meetingTypeRepositoryPort) {
-        this.roomRepository = roomRepository;
-        this.meetingTypeRepositoryPort = meetingTypeRepositoryPort;
+    public GetBestRoomWithAvailableHoursUseCase(RoomCatalog roomCatalog, RoomAvailabilityIndex roomAvailabilityIndex) {
+        this.roomCatalog = roomCatalog;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
     }
 
     /**
      * Finds the best room for a given meeting type and capacity and returns its information
-     * along with the available hours.
+     * along with the available hours of a one-hour meeting.
      *
      * @param meetingTypeName  The type of meeting (defines equipment requirements).
      * @param requiredCapacity The required capacity for the meeting.
@@ -37,8 +39,27 @@ public class GetBestRoomWithAvailableHoursUseCase {
      * @return A DTO containing the best room's information and its available hours.
      */
     public RoomWithAvailableHoursDto execute(String meetingTypeName, int requiredCapacity, LocalDate meetingDate) {
+        return execute(meetingTypeName, requiredCapacity, meetingDate, Meeting.DEFAULT_DURATION_MINUTES);
+    }
+
+    /**
+     * Finds the best room where a meeting of the given length can start at a whole hour, and returns its information
+     * along with those hours and the free windows of at least that length.
+     *
+     * @param meetingTypeName  The type of meeting (defines equipment requirements).
+     * @param requiredCapacity The required capacity for the meeting.
+     * @param meetingDate      The date of meeting .
+     * @param durationMinutes  The length of the meeting, in minutes.
+     * @return A DTO containing the best room's information, its available hours and its free windows.
+     */
+    public RoomWithAvailableHoursDto execute(String meetingTypeName, int requiredCapacity, LocalDate meetingDate, int durationMinutes) {
+        // Validate duration
+        if (durationMinutes < Meeting.MIN_DURATION_MINUTES || durationMinutes > Meeting.MAX_DURATION_MINUTES) {
+            throw new InvalidMeetingDurationException("Meeting duration must be between 30 and 720 minutes.");
+        }
+
         // Convert meetingType
-        Optional<MeetingType> meetingTypeOptional = meetingTypeRepositoryPort.findByName(meetingTypeName);
+        Optional<MeetingType> meetingTypeOptional = roomCatalog.findMeetingType(meetingTypeName);
 
         // If not present, throw a custom exception
         meetingTypeOptional.orElseThrow(() -> new MeetingTypeNotFoundException(meetingTypeName));
@@ -46,14 +67,11 @@ public class GetBestRoomWithAvailableHoursUseCase {
         // Get the MeetingType
         MeetingType meetingType = meetingTypeOptional.get();
 
-        // Fetch all rooms from the repository
-        List<Room> rooms = roomRepository.findAllRooms();
-
-        // Find the best room based on suitability
-        Optional<Room> bestRoom = rooms.stream()
-                .filter(room -> room.isSuitableForMeetingType(meetingType) && room.hasCapacity(requiredCapacity)
-                        && !room.findAvailableHoursOnDate(meetingDate).isEmpty())
-                .min(new RoomSuitabilityComparator());
+        // Walk the suitable rooms from the best one and keep the first with enough capacity and a free hour
+        Optional<Room> bestRoom = roomCatalog.getCandidates(meetingType).stream()
+                .filter(room -> room.hasCapacity(requiredCapacity)
+                        && roomAvailabilityIndex.findFreeHours(meetingDate, room.getId(), durationMinutes) != 0)
+                .findFirst();
 
         // If no suitable room is found, throw an exception
         if (bestRoom.isEmpty()) {
@@ -64,8 +82,13 @@ public class GetBestRoomWithAvailableHoursUseCase {
         Room room = bestRoom.get();
 
         // Fetch the available hours
-        List<String> availableHours = room.findAvailableHoursOnDate(meetingDate).stream()
-                .map(time -> time + "h00-" + (time+1) + "h00") // Convert time to appropriate representation
+        List<String> availableHours = HourSlots.toList(roomAvailabilityIndex.findFreeHours(meetingDate, room.getId(), durationMinutes)).stream()
+                .map(hour -> formatMinute(hour * 60) + "-" + formatMinute(hour * 60 + durationMinutes)) // Convert time to appropriate representation
+                .toList();
+
+        // Fetch the free windows, which may also start at half hours
+        List<String> availableWindows = roomAvailabilityIndex.findFreeWindows(meetingDate, room.getId(), durationMinutes).stream()
+                .map(window -> formatMinute(window.startMinute()) + "-" + formatMinute(window.endMinute()))
                 .toList();
 
         // Return the room info and available hours as a DTO
@@ -74,6 +97,11 @@ public class GetBestRoomWithAvailableHoursUseCase {
                 .capacity(room.getCapacity())
                 .roomEquipments(room.getEquipments().stream().map(Equipment::getName).toList())
                 .availableHours(availableHours)
+                .availableWindows(availableWindows)
                 .build();
     }
+
+    private static String formatMinute(int minute) {
+        return String.format("%dh%02d", minute / 60, minute % 60);
+    }
 }
@@ -0,0 +1,108 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.common.dtos.AvailableSlotDto;
+import com.zenika.meetingplanner.common.dtos.EarliestSlotsDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDurationException;
+import com.zenika.meetingplanner.common.exceptions.InvalidSlotCountException;
+import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class GetEarliestSlotsUseCase {
+
+    public static final int MAX_SLOT_COUNT = 50;
+
+    private final RoomCatalog roomCatalog;
+
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+
+    private final int maxDays;
+
+    public GetEarliestSlotsUseCase(RoomCatalog roomCatalog,
+                                   RoomAvailabilityIndex roomAvailabilityIndex,
+                                   @Value("${meetingplanner.earliest-slots.max-days:31}") int maxDays) {
+        this.roomCatalog = roomCatalog;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * Finds the earliest slots a meeting can be booked at, from a start date onwards, each in the best free room.
+     * Days are walked forward one at a time and the walk stops as soon as enough slots are found,
+     * or after {@code meetingplanner.earliest-slots.max-days} days.
+     *
+     * @param meetingTypeName  The type of meeting (defines equipment requirements).
+     * @param requiredCapacity The required capacity for the meeting.
+     * @param startDate        The first day to search.
+     * @param count            The number of slots to return.
+     * @param durationMinutes  The length of the meeting, in minutes.
+     * @return A DTO holding the slots found, the earliest first; fewer than count if the search window runs out.
+     */
+    public EarliestSlotsDto execute(String meetingTypeName, int requiredCapacity, LocalDate startDate, int count, int durationMinutes) {
+        // Validate the request
+        if (count < 1 || count > MAX_SLOT_COUNT) {
+            throw new InvalidSlotCountException("The number of slots must be between 1 and " + MAX_SLOT_COUNT + ".");
+        }
+        if (durationMinutes < Meeting.MIN_DURATION_MINUTES || durationMinutes > Meeting.MAX_DURATION_MINUTES) {
+            throw new InvalidMeetingDurationException("Meeting duration must be between 30 and 720 minutes.");
+        }
+
+        // Get the MeetingType
+        MeetingType meetingType = roomCatalog.findMeetingType(meetingTypeName)
+                .orElseThrow(() -> new MeetingTypeNotFoundException(meetingTypeName));
+
+        // Keep the suitable rooms with enough capacity, the best one first
+        List<Room> candidates = roomCatalog.getCandidates(meetingType).stream()
+                .filter(room -> room.hasCapacity(requiredCapacity))
+                .toList();
+
+        // Walk the days forward until enough slots are found
+        List<AvailableSlotDto> slots = new ArrayList<>(count);
+        if (!candidates.isEmpty()) {
+            LocalDate lastDate = startDate.plusDays(maxDays - 1L);
+            for (LocalDate date = startDate; !date.isAfter(lastDate) && slots.size() < count; date = date.plusDays(1)) {
+                collectSlots(date, candidates, durationMinutes, count, slots);
+            }
+        }
+
+        return EarliestSlotsDto.builder()
+                .meetingType(meetingType.getName())
+                .requiredCapacity(requiredCapacity)
+                .durationMinutes(durationMinutes)
+                .slots(slots)
+                .build();
+    }
+
+    /**
+     * Adds the free hours of a day, in ascending order, until the list holds count slots.
+     *
+     * @param date            The day to evaluate.
+     * @param candidates      The candidate rooms, the best one first.
+     * @param durationMinutes The length of the meeting, in minutes.
+     * @param count           The number of slots wanted.
+     * @param slots           The slots found so far.
+     */
+    private void collectSlots(LocalDate date, List<Room> candidates, int durationMinutes, int count, List<AvailableSlotDto> slots) {
+        Room[] bestRooms = roomAvailabilityIndex.findBestRoomPerHour(date, candidates, durationMinutes);
+        for (int hour = HourSlots.FIRST_HOUR; hour < HourSlots.LAST_HOUR && slots.size() < count; hour++) {
+            if (bestRooms[hour] != null) {
+                slots.add(AvailableSlotDto.builder()
+                        .date(date.toString())
+                        .hour(hour)
+                        .roomName(bestRooms[hour].getName())
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import com.zenika.meetingplanner.application.services.CatalogSnapshot;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.common.dtos.MeetingImportErrorDto;
+import com.zenika.meetingplanner.common.dtos.MeetingImportReportDto;
+import com.zenika.meetingplanner.common.dtos.MeetingImportRowDto;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+public class ImportMeetingsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportMeetingsUseCase.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final RoomCatalog roomCatalog;
+    private final MeetingRepositoryPort meetingRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final ArchivePolicy archivePolicy;
+
+    public ImportMeetingsUseCase(RoomCatalog roomCatalog, MeetingRepositoryPort meetingRepository, RoomAvailabilityIndex roomAvailabilityIndex, ArchivePolicy archivePolicy) {
+        this.roomCatalog = roomCatalog;
+        this.meetingRepository = meetingRepository;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.archivePolicy = archivePolicy;
+    }
+
+    /**
+     * Imports already booked meetings into their rooms.
+     * Each row is checked against the in-memory availability of its room and reserved there, so that rows
+     * conflicting with existing meetings or with earlier rows are rejected. Valid rows are saved in batches of
+     * {@value #CHUNK_SIZE}, each batch in its own transaction, so memory does not grow with the size of the import.
+     * Rows dated before the archive cutoff are history: they are saved without claiming their room slots,
+     * and the next archive run moves them to the archive.
+     *
+     * @param rows The rows to import, read lazily.
+     * @return The number of imported and rejected rows, the import rate and the first errors.
+     */
+    public MeetingImportReportDto execute(Stream<MeetingImportRowDto> rows) {
+        long startTime = System.nanoTime();
+        ImportReport report = new ImportReport();
+
+        // Resolve room names against the same catalog snapshot for the whole import
+        CatalogSnapshot catalog = roomCatalog.getSnapshot();
+
+        LocalDate cutoff = archivePolicy.cutoff();
+        Map<Long, Meeting> chunk = new LinkedHashMap<>();
+        Map<Long, Meeting> archivedChunk = new LinkedHashMap<>();
+        Iterator<MeetingImportRowDto> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            MeetingImportRowDto row = iterator.next();
+            String error = reserve(row, catalog, cutoff, chunk, archivedChunk);
+            if (error != null) {
+                report.reject(row.getLine(), error);
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                save(chunk, report);
+            }
+            if (archivedChunk.size() == CHUNK_SIZE) {
+                saveArchived(archivedChunk, report);
+            }
+        }
+        save(chunk, report);
+        saveArchived(archivedChunk, report);
+
+        long durationNanos = System.nanoTime() - startTime;
+        long processed = report.imported + report.rejected;
+        double rowsPerSecond = durationNanos == 0 ? 0 : processed * 1_000_000_000.0 / durationNanos;
+        logger.info("Imported {} meetings and rejected {} rows at {} rows/s", report.imported, report.rejected, Math.round(rowsPerSecond));
+
+        return MeetingImportReportDto.builder()
+                .imported(report.imported)
+                .rejected(report.rejected)
+                .durationMillis(durationNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .errors(report.errors)
+                .build();
+    }
+
+    /**
+     * Validates a row and reserves its room slot.
+     *
+     * @return Why the row is rejected, or null if it was added to the chunk of its date.
+     */
+    private String reserve(MeetingImportRowDto row, CatalogSnapshot catalog, LocalDate cutoff,
+                           Map<Long, Meeting> chunk, Map<Long, Meeting> archivedChunk) {
+        if (row.getMeetingType() == null || row.getParticipantCount() == null || row.getMeetingDate() == null
+                || row.getMeetingHour() == null || row.getRoomName() == null) {
+            return "Missing or malformed fields.";
+        }
+
+        LocalDate meetingDate;
+        try {
+            meetingDate = LocalDate.parse(row.getMeetingDate());
+        } catch (DateTimeParseException e) {
+            return "Invalid date format: " + e.getParsedString();
+        }
+        int hour = row.getMeetingHour();
+        if (hour < 8 || hour > 20) {
+            return "Meeting hour must be between 8 and 20.";
+        }
+
+        // Validate duration, which defaults to one hour
+        int durationMinutes = row.getDurationMinutes() != null ? row.getDurationMinutes() : Meeting.DEFAULT_DURATION_MINUTES;
+        if (durationMinutes < Meeting.MIN_DURATION_MINUTES || durationMinutes > Meeting.MAX_DURATION_MINUTES
+                || hour * 60 + durationMinutes > HourSlots.LAST_HOUR * 60) {
+            return "Meeting duration must be between 30 and 720 minutes and end by 20:00.";
+        }
+
+        Optional<MeetingType> meetingType = roomCatalog.findMeetingType(row.getMeetingType());
+        if (meetingType.isEmpty()) {
+            return "Meeting type '" + row.getMeetingType() + "' not found.";
+        }
+
+        Room room = catalog.findRoom(row.getRoomName()).orElse(null);
+        if (room == null) {
+            return "Room '" + row.getRoomName() + "' not found.";
+        }
+
+        if (!roomAvailabilityIndex.tryReserve(meetingDate, room.getId(), hour, durationMinutes)) {
+            return "The room is already booked at that time.";
+        }
+
+        (meetingDate.isBefore(cutoff) ? archivedChunk : chunk).put(row.getLine(), Meeting.builder()
+                .type(meetingType.get())
+                .participantCount(row.getParticipantCount())
+                .date(meetingDate)
+                .hour(hour)
+                .durationMinutes(durationMinutes)
+                .room(room)
+                .build());
+        return null;
+    }
+
+    private void save(Map<Long, Meeting> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            meetingRepository.saveAll(new ArrayList<>(chunk.values()));
+            report.imported += chunk.size();
+        } catch (RoomSlotTakenException e) {
+            // Another instance booked one of the slots: save the meetings one by one and reject the conflicting ones
+            saveOneByOne(chunk, report);
+        } catch (RuntimeException e) {
+            chunk.values().forEach(this::release);
+            throw e;
+        }
+        chunk.clear();
+    }
+
+    private void saveArchived(Map<Long, Meeting> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            meetingRepository.saveAllUnclaimed(new ArrayList<>(chunk.values()));
+            report.imported += chunk.size();
+        } catch (RuntimeException e) {
+            chunk.values().forEach(this::release);
+            throw e;
+        }
+        chunk.clear();
+    }
+
+    private void saveOneByOne(Map<Long, Meeting> chunk, ImportReport report) {
+        Iterator<Map.Entry<Long, Meeting>> iterator = chunk.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Meeting> entry = iterator.next();
+            try {
+                meetingRepository.save(entry.getValue());
+                report.imported++;
+            } catch (RoomSlotTakenException e) {
+                // The slot is booked in the database: it stays reserved in memory
+                report.reject(entry.getKey(), "The room is already booked at that time.");
+            } catch (RuntimeException e) {
+                release(entry.getValue());
+                iterator.forEachRemaining(remaining -> release(remaining.getValue()));
+                throw e;
+            }
+        }
+    }
+
+    private void release(Meeting meeting) {
+        roomAvailabilityIndex.release(meeting.getDate(), meeting.getRoom().getId(), meeting.getHour(), meeting.getDurationMinutes());
+    }
+
+    private static final class ImportReport {
+        private long imported;
+        private long rejected;
+        private final List<MeetingImportErrorDto> errors = new ArrayList<>();
+
+        private void reject(long line, String error) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(MeetingImportErrorDto.builder().line(line).error(error).build());
+            }
+        }
+    }
+}
@@ -5,16 +5,34 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Logs one line per controller call with its method, outcome and duration.
+ * Arguments and results are only rendered when {@code meetingplanner.api-logging.payloads} is enabled,
+ * for the share of calls given by {@code meetingplanner.api-logging.sample-rate}, and at DEBUG level.
+ * Exceptions answered with a 4xx, as told by {@link GlobalExceptionHandler#isClientError}, are logged at WARN without their stack trace.
+ */
 @Aspect
 @Component
 public class ApiLoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(ApiLoggingAspect.class);
 
+    private final boolean logPayloads;
+    private final double sampleRate;
+
+    public ApiLoggingAspect(@Value("${meetingplanner.api-logging.payloads:false}") boolean logPayloads,
+                            @Value("${meetingplanner.api-logging.sample-rate:1.0}") double sampleRate) {
+        this.logPayloads = logPayloads;
+        this.sampleRate = sampleRate;
+    }
+
     /**
      * Logs information about controller methods.
      *
@@ -24,26 +42,50 @@ public class ApiLoggingAspect {
      */
     @Around("execution(* com.zenika.meetingplanner.adapters.inbound.rest..*(..))")
     public Object logControllerMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        boolean payloads = logPayloads && logger.isDebugEnabled() && isSampled();
 
-        // Log method entry
-        String methodName = joinPoint.getSignature().toShortString();
-        Object[] methodArgs = joinPoint.getArgs();
-        logger.info("Entering method: {} with arguments: {}", methodName, Arrays.toString(methodArgs));
+        // Log method entry, rendering the arguments only when asked for
+        if (payloads) {
+            logger.debug("method={} arguments={}", joinPoint.getSignature().toShortString(), Arrays.toString(joinPoint.getArgs()));
+        }
 
         Object result;
         try {
             // Execute the method
             result = joinPoint.proceed();
         } catch (Throwable throwable) {
-            logger.error("Exception in method: {} with arguments: {}", methodName, Arrays.toString(methodArgs), throwable);
+            if (GlobalExceptionHandler.isClientError(throwable)) {
+                logger.warn("method={} outcome={} durationMicros={} message=\"{}\"", joinPoint.getSignature().toShortString(),
+                        throwable.getClass().getSimpleName(), elapsedMicros(startTime), throwable.getMessage());
+            } else {
+                logger.error("method={} outcome=exception durationMicros={}",
+                        joinPoint.getSignature().toShortString(), elapsedMicros(startTime), throwable);
+            }
             throw throwable;
         }
 
-        // Log method exit
-        long elapsedTime = System.currentTimeMillis() - startTime;
-        logger.info("Exiting method: {} with result: {} (Execution time: {} ms)", methodName, result, elapsedTime);
+        // Log method exit; the latency line is kept even when payloads are off
+        if (logger.isInfoEnabled()) {
+            logger.info("method={} outcome={} durationMicros={}",
+                    joinPoint.getSignature().toShortString(), outcome(result), elapsedMicros(startTime));
+        }
+        if (payloads) {
+            logger.debug("method={} result={}", joinPoint.getSignature().toShortString(), result);
+        }
 
         return result;
     }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static long elapsedMicros(long startTime) {
+        return (System.nanoTime() - startTime) / 1_000;
+    }
+
+    private static Object outcome(Object result) {
+        return result instanceof ResponseEntity<?> response ? response.getStatusCode().value() : "ok";
+    }
 }
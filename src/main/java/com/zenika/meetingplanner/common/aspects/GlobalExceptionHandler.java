@@ -1,6 +1,12 @@
 package com.zenika.meetingplanner.common.aspects;
 
+import com.zenika.meetingplanner.common.dtos.NoSuitableRoomResponseDto;
+import com.zenika.meetingplanner.common.exceptions.BusinessException;
+import com.zenika.meetingplanner.common.exceptions.InvalidDateRangeException;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDateException;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDurationException;
 import com.zenika.meetingplanner.common.exceptions.InvalidMeetingHourException;
+import com.zenika.meetingplanner.common.exceptions.InvalidSlotCountException;
 import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
 import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
 import org.springframework.http.HttpStatus;
@@ -13,9 +19,28 @@ import java.time.format.DateTimeParseException;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * Tells whether an exception is answered with a 4xx status, as a refused request rather than a failure.
+     *
+     * @param throwable The exception thrown by a controller.
+     * @return True for the business exceptions and unparsable dates.
+     */
+    public static boolean isClientError(Throwable throwable) {
+        return throwable instanceof BusinessException || throwable instanceof DateTimeParseException;
+    }
+
     @ExceptionHandler(NoSuitableRoomException.class)
-    public ResponseEntity<String> handleNoSuitableRoomException(NoSuitableRoomException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+    public ResponseEntity<NoSuitableRoomResponseDto> handleNoSuitableRoomException(NoSuitableRoomException ex) {
+        NoSuitableRoomResponseDto body = NoSuitableRoomResponseDto.builder()
+                .message(ex.getMessage())
+                .alternatives(ex.getAlternatives())
+                .build();
+        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(InvalidMeetingDateException.class)
+    public ResponseEntity<String> handleInvalidMeetingDateException(InvalidMeetingDateException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(InvalidMeetingHourException.class)
@@ -23,11 +48,31 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidMeetingDurationException.class)
+    public ResponseEntity<String> handleInvalidMeetingDurationException(InvalidMeetingDurationException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<String> handleInvalidDateRangeException(InvalidDateRangeException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidSlotCountException.class)
+    public ResponseEntity<String> handleInvalidSlotCountException(InvalidSlotCountException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MeetingTypeNotFoundException.class)
     public ResponseEntity<String> handleMeetingTypeNotFoundException(MeetingTypeNotFoundException ex) {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<String> handleBusinessException(BusinessException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(DateTimeParseException.class)
     public ResponseEntity<String> handleDateTimeParseException(DateTimeParseException ex) {
         return ResponseEntity
@@ -0,0 +1,89 @@
+package com.zenika.meetingplanner.common.aspects;
+
+import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
+import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Records Micrometer metrics around the use cases and the repository ports:
+ * <ul>
+ *     <li>{@code meetingplanner.usecase}: a timer per use case, tagged with its outcome,</li>
+ *     <li>{@code meetingplanner.repository}: a timer per port method and adapter,</li>
+ *     <li>{@code meetingplanner.repository.results}: the number of rows (rooms, meetings) each call returned,</li>
+ *     <li>{@code meetingplanner.exceptions}: a counter of the business exceptions thrown by the use cases.</li>
+ * </ul>
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times the execution of the use cases and counts the business exceptions they throw.
+     *
+     * @param joinPoint The join point providing method details.
+     * @return The result of the method execution.
+     * @throws Throwable If the method execution fails.
+     */
+    @Around("execution(public * com.zenika.meetingplanner.application.usecases..*.execute*(..))")
+    public Object timeUseCases(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (NoSuitableRoomException | MeetingTypeNotFoundException e) {
+            outcome = e.getClass().getSimpleName();
+            meterRegistry.counter("meetingplanner.exceptions", "exception", outcome, "usecase", useCase).increment();
+            throw e;
+        } catch (Throwable throwable) {
+            outcome = "error";
+            throw throwable;
+        } finally {
+            sample.stop(meterRegistry.timer("meetingplanner.usecase", "usecase", useCase, "outcome", outcome));
+        }
+    }
+
+    /**
+     * Times every repository port method per adapter and records how many rows it returned.
+     *
+     * @param joinPoint The join point providing method details.
+     * @return The result of the method execution.
+     * @throws Throwable If the method execution fails.
+     */
+    @Around("execution(* com.zenika.meetingplanner.application.ports.*Port.*(..))")
+    public Object timeRepositories(ProceedingJoinPoint joinPoint) throws Throwable {
+        String adapter = joinPoint.getTarget().getClass().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof Collection<?> rows) {
+                DistributionSummary.builder("meetingplanner.repository.results")
+                        .tags("adapter", adapter, "method", method)
+                        .register(meterRegistry)
+                        .record(rows.size());
+            }
+            return result;
+        } catch (Throwable throwable) {
+            outcome = "error";
+            throw throwable;
+        } finally {
+            sample.stop(meterRegistry.timer("meetingplanner.repository", "adapter", adapter, "method", method, "outcome", outcome));
+        }
+    }
+}
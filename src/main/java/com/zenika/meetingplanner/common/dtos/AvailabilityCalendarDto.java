@@ -0,0 +1,19 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@ToString
+public class AvailabilityCalendarDto {
+    private String meetingType;
+    private int requiredCapacity;
+    private List<Integer> hours;
+    private List<DayAvailabilityDto> days;
+}
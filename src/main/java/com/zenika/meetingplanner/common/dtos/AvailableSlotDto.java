@@ -0,0 +1,16 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Builder
+@Getter
+@Setter
+@ToString
+public class AvailableSlotDto {
+    private String date;
+    private int hour;
+    private String roomName;
+}
@@ -0,0 +1,18 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@ToString
+public class DayAvailabilityDto {
+    private String date;
+    // Best room for each of the calendar hours, or null when no room is free
+    private List<String> bestRooms;
+}
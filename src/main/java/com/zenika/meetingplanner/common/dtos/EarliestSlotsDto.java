@@ -0,0 +1,20 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@ToString
+public class EarliestSlotsDto {
+    private String meetingType;
+    private int requiredCapacity;
+    private int durationMinutes;
+    // Earliest slots first, each in the best room free at that time
+    private List<AvailableSlotDto> slots;
+}
@@ -0,0 +1,18 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class MeetingAssignmentResultDto {
+    private int index;                   // Position of the request in the batch
+    private boolean assigned;            // Whether a room was assigned
+    private MeetingResponseDto meeting;  // The saved meeting, when assigned
+    private String error;                // Why no room was assigned, otherwise
+    private List<AvailableSlotDto> alternatives; // Slots to book instead, when no room was free
+}
@@ -0,0 +1,13 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class MeetingImportErrorDto {
+    private long line;                   // Line of the rejected row
+    private String error;                // Why the row was rejected
+}
@@ -0,0 +1,18 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class MeetingImportReportDto {
+    private long imported;                      // Number of meetings saved
+    private long rejected;                      // Number of rows rejected
+    private long durationMillis;                // Duration of the import
+    private double rowsPerSecond;               // Rows processed per second
+    private List<MeetingImportErrorDto> errors; // The first rejected rows, with their reason
+}
@@ -0,0 +1,22 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingImportRowDto {
+    private long line;                   // Line of the row in the uploaded file
+    private String meetingType;          // Type of the meeting
+    private Integer participantCount;    // Number of participants
+    private String meetingDate;          // Date of the meeting (String format: YYYY-MM-DD)
+    private Integer meetingHour;         // Hour of the meeting (8 to 20)
+    private String roomName;             // Name of the room the meeting was booked in
+    private Integer durationMinutes;     // Length of the meeting in minutes, one hour when absent
+}
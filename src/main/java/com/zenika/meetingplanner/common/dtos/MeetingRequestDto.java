@@ -13,4 +13,5 @@ public class MeetingRequestDto {
     private int participantCount;        // Number of participants
     private String meetingDate;          // Date of the meeting (String format: YYYY-MM-DD)
     private int meetingHour;             // Hour of the meeting (8 to 20)
+    private Integer durationMinutes;     // Length of the meeting in minutes (30 to 720, 60 when missing)
 }
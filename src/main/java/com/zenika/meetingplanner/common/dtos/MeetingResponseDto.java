@@ -12,5 +12,6 @@ public class MeetingResponseDto {
     private int participantCount;        // Number of participants
     private String meetingDate;          // Date of the meeting (String format)
     private int meetingHour;             // Hour of the meeting
+    private int durationMinutes;         // Length of the meeting in minutes
     private String assignedRoomName;     // Name of the assigned room
 }
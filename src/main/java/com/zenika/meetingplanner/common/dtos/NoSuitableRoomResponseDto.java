@@ -0,0 +1,18 @@
+package com.zenika.meetingplanner.common.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@ToString
+public class NoSuitableRoomResponseDto {
+    private String message;
+    // Slots the meeting could be booked at instead, the best one first
+    private List<AvailableSlotDto> alternatives;
+}
@@ -16,4 +16,5 @@ public class RoomWithAvailableHoursDto {
     private int capacity;
     private List<String> roomEquipments;
     private List<String> availableHours;
+    private List<String> availableWindows;
 }
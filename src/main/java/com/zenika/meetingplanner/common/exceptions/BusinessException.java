@@ -0,0 +1,15 @@
+package com.zenika.meetingplanner.common.exceptions;
+
+/**
+ * Base class of the exceptions raised by a request the application refuses, answered with a 4xx status.
+ */
+public class BusinessException extends RuntimeException {
+
+    public BusinessException(String message) {
+        super(message);
+    }
+
+    public BusinessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.zenika.meetingplanner.common.exceptions;
+
+public class InvalidDateRangeException extends BusinessException {
+
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+
+    public InvalidDateRangeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
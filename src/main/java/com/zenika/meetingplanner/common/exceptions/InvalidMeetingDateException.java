@@ -0,0 +1,8 @@
+package com.zenika.meetingplanner.common.exceptions;
+
+public class InvalidMeetingDateException extends BusinessException {
+
+    public InvalidMeetingDateException(String message) {
+        super(message);
+    }
+}
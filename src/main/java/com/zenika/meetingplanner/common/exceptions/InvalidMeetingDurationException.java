@@ -0,0 +1,8 @@
+package com.zenika.meetingplanner.common.exceptions;
+
+public class InvalidMeetingDurationException extends BusinessException {
+
+    public InvalidMeetingDurationException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.zenika.meetingplanner.common.exceptions;
 
-public class InvalidMeetingHourException extends RuntimeException {
+public class InvalidMeetingHourException extends BusinessException {
 
     public InvalidMeetingHourException(String message) {
         super(message);
@@ -0,0 +1,8 @@
+package com.zenika.meetingplanner.common.exceptions;
+
+public class InvalidSlotCountException extends BusinessException {
+
+    public InvalidSlotCountException(String message) {
+        super(message);
+    }
+}
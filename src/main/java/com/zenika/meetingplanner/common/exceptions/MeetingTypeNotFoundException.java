@@ -3,7 +3,7 @@ package com.zenika.meetingplanner.common.exceptions;
 /**
  * Exception thrown when a requested MeetingType is not found.
  */
-public class MeetingTypeNotFoundException extends RuntimeException {
+public class MeetingTypeNotFoundException extends BusinessException {
 
     public MeetingTypeNotFoundException(String meetingTypeName) {
         super("Meeting type '" + meetingTypeName + "' not found.");
@@ -1,12 +1,29 @@
 package com.zenika.meetingplanner.common.exceptions;
 
-public class NoSuitableRoomException extends RuntimeException {
+import com.zenika.meetingplanner.common.dtos.AvailableSlotDto;
+
+import java.util.List;
+
+public class NoSuitableRoomException extends BusinessException {
+
+    // Slots the meeting could be booked at instead, the best one first
+    private final List<AvailableSlotDto> alternatives;
 
     public NoSuitableRoomException(String message) {
+        this(message, List.of());
+    }
+
+    public NoSuitableRoomException(String message, List<AvailableSlotDto> alternatives) {
         super(message);
+        this.alternatives = alternatives;
     }
 
     public NoSuitableRoomException(String message, Throwable cause) {
         super(message, cause);
+        this.alternatives = List.of();
+    }
+
+    public List<AvailableSlotDto> getAlternatives() {
+        return alternatives;
     }
 }
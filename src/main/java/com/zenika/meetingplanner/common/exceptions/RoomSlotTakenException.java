@@ -0,0 +1,15 @@
+package com.zenika.meetingplanner.common.exceptions;
+
+/**
+ * Exception thrown when a room slot was claimed concurrently, possibly by another application instance.
+ */
+public class RoomSlotTakenException extends RuntimeException {
+
+    public RoomSlotTakenException(String message) {
+        super(message);
+    }
+
+    public RoomSlotTakenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
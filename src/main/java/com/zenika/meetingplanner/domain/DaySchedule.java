@@ -0,0 +1,282 @@
+package com.zenika.meetingplanner.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable schedule of a room on one day: the booked intervals, in minutes since midnight, sorted by start.
+ * Booked intervals never overlap, so their ends are sorted too and an overlap query is a single binary search.
+ * A new meeting must keep a cleaning buffer before and after every booked interval.
+ */
+public final class DaySchedule {
+
+    public static final DaySchedule EMPTY = new DaySchedule(new int[0], new int[0]);
+
+    public static final int DEFAULT_BUFFER_MINUTES = 60;
+    public static final int MINUTES_PER_DAY = HourSlots.HOURS_PER_DAY * 60;
+
+    private final int[] starts;
+    private final int[] ends;
+
+    private DaySchedule(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Builds the schedule of the given meetings, which must all be on the same day.
+     * Meetings that overlap, as saved before the buffer was changed, are merged into one interval.
+     *
+     * @param meetings The meetings of the day.
+     * @return The schedule of the day.
+     */
+    public static DaySchedule of(List<Meeting> meetings) {
+        if (meetings.isEmpty()) {
+            return EMPTY;
+        }
+        List<Meeting> sorted = new ArrayList<>(meetings);
+        sorted.sort((a, b) -> Integer.compare(a.getStartMinute(), b.getStartMinute()));
+        int[] starts = new int[sorted.size()];
+        int[] ends = new int[sorted.size()];
+        int size = 0;
+        for (Meeting meeting : sorted) {
+            if (size > 0 && meeting.getStartMinute() < ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], meeting.getEndMinute());
+            } else {
+                starts[size] = meeting.getStartMinute();
+                ends[size] = meeting.getEndMinute();
+                size++;
+            }
+        }
+        return new DaySchedule(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+
+    /**
+     * Checks if an interval is free, keeping the buffer between it and every booked interval.
+     *
+     * @param start         The first minute of the interval.
+     * @param end           The minute the interval ends, excluded.
+     * @param bufferMinutes The cleaning time to keep before and after booked intervals.
+     * @return True if the interval and its buffers do not overlap any booked interval, false otherwise.
+     */
+    public boolean isFree(int start, int end, int bufferMinutes) {
+        // The last booked interval starting before the end of the new one, buffer included, is the only one to check
+        int last = lastStartingBefore(end + bufferMinutes);
+        return last < 0 || ends[last] + bufferMinutes <= start;
+    }
+
+    /**
+     * Returns a copy of this schedule with one more booked interval.
+     * The caller must have checked that the interval is free.
+     *
+     * @param start The first minute of the interval.
+     * @param end   The minute the interval ends, excluded.
+     * @return The new schedule.
+     */
+    public DaySchedule with(int start, int end) {
+        int index = lastStartingBefore(start + 1) + 1;
+        int[] newStarts = new int[starts.length + 1];
+        int[] newEnds = new int[ends.length + 1];
+        System.arraycopy(starts, 0, newStarts, 0, index);
+        System.arraycopy(ends, 0, newEnds, 0, index);
+        newStarts[index] = start;
+        newEnds[index] = end;
+        System.arraycopy(starts, index, newStarts, index + 1, starts.length - index);
+        System.arraycopy(ends, index, newEnds, index + 1, ends.length - index);
+        return new DaySchedule(newStarts, newEnds);
+    }
+
+    /**
+     * Returns a copy of this schedule without a booked interval.
+     *
+     * @param start The first minute of the interval.
+     * @param end   The minute the interval ends, excluded.
+     * @return The new schedule, or this one if the interval is not booked.
+     */
+    public DaySchedule without(int start, int end) {
+        int index = indexOf(start, end);
+        if (index < 0) {
+            return this;
+        }
+        int[] newStarts = new int[starts.length - 1];
+        int[] newEnds = new int[ends.length - 1];
+        System.arraycopy(starts, 0, newStarts, 0, index);
+        System.arraycopy(ends, 0, newEnds, 0, index);
+        System.arraycopy(starts, index + 1, newStarts, index, starts.length - index - 1);
+        System.arraycopy(ends, index + 1, newEnds, index, ends.length - index - 1);
+        return new DaySchedule(newStarts, newEnds);
+    }
+
+    /**
+     * Returns a copy of this schedule without the intervals booked with the same start and end in another schedule.
+     *
+     * @param other The schedule whose intervals to remove.
+     * @return The new schedule, or this one if no interval is shared.
+     */
+    public DaySchedule minus(DaySchedule other) {
+        DaySchedule result = this;
+        for (int i = 0; i < starts.length; i++) {
+            if (other.indexOf(starts[i], ends[i]) >= 0) {
+                result = result.without(starts[i], ends[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a schedule holding the booked intervals of both schedules, those that overlap merged into one.
+     *
+     * @param other The schedule to merge with this one.
+     * @return The merged schedule.
+     */
+    public DaySchedule union(DaySchedule other) {
+        if (other.size() == 0) {
+            return this;
+        }
+        if (size() == 0) {
+            return other;
+        }
+        int[] mergedStarts = new int[starts.length + other.starts.length];
+        int[] mergedEnds = new int[mergedStarts.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < starts.length || j < other.starts.length) {
+            // Take the interval starting first from either schedule
+            boolean fromThis = j == other.starts.length || (i < starts.length && starts[i] <= other.starts[j]);
+            int start = fromThis ? starts[i] : other.starts[j];
+            int end = fromThis ? ends[i++] : other.ends[j++];
+            if (size > 0 && start < mergedEnds[size - 1]) {
+                mergedEnds[size - 1] = Math.max(mergedEnds[size - 1], end);
+            } else {
+                mergedStarts[size] = start;
+                mergedEnds[size] = end;
+                size++;
+            }
+        }
+        return new DaySchedule(Arrays.copyOf(mergedStarts, size), Arrays.copyOf(mergedEnds, size));
+    }
+
+    /**
+     * Lists the free windows of a part of the day where a meeting of the given length fits.
+     * Only the gaps between booked intervals are walked, whatever the length of the part of the day.
+     *
+     * @param from          The first minute of the part of the day.
+     * @param to            The minute the part of the day ends, excluded.
+     * @param minLength     The length of the meeting, in minutes.
+     * @param bufferMinutes The cleaning time to keep before and after booked intervals.
+     * @return The free windows, in order, each at least minLength long.
+     */
+    public List<TimeWindow> freeWindows(int from, int to, int minLength, int bufferMinutes) {
+        List<TimeWindow> windows = new ArrayList<>();
+        // Skip the booked intervals whose buffer ends before the part of the day
+        int index = firstEndingAfter(from - bufferMinutes);
+        int windowStart = from;
+        while (windowStart < to) {
+            int windowEnd = index < starts.length ? Math.min(to, starts[index] - bufferMinutes) : to;
+            if (windowEnd - windowStart >= minLength) {
+                windows.add(new TimeWindow(windowStart, windowEnd));
+            }
+            if (index == starts.length) {
+                break;
+            }
+            windowStart = Math.max(windowStart, ends[index] + bufferMinutes);
+            index++;
+        }
+        return windows;
+    }
+
+    /**
+     * Returns the whole hours of the working day a meeting of the given length can start at.
+     * The meeting must start from 8:00 and end by 20:00.
+     *
+     * @param durationMinutes The length of the meeting, in minutes.
+     * @param bufferMinutes   The cleaning time to keep before and after booked intervals.
+     * @return A mask where bit n is set when the meeting can start at hour n.
+     */
+    public int freeHours(int durationMinutes, int bufferMinutes) {
+        int free = 0;
+        for (TimeWindow window : freeWindows(HourSlots.FIRST_HOUR * 60, HourSlots.LAST_HOUR * 60, durationMinutes, bufferMinutes)) {
+            // Hours starting inside the window, early enough for the meeting to end inside it too
+            int firstHour = (window.startMinute() + 59) / 60;
+            int lastHour = (window.endMinute() - durationMinutes) / 60;
+            free |= HourSlots.range(firstHour, lastHour + 1);
+        }
+        return free;
+    }
+
+    /**
+     * Lists the booked intervals.
+     *
+     * @return The booked intervals, sorted by start.
+     */
+    public List<TimeWindow> bookedIntervals() {
+        List<TimeWindow> intervals = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            intervals.add(new TimeWindow(starts[i], ends[i]));
+        }
+        return intervals;
+    }
+
+    /**
+     * Returns the number of booked intervals.
+     *
+     * @return The size of the schedule.
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Finds a booked interval by its start and end.
+     *
+     * @param start The first minute of the interval.
+     * @param end   The minute the interval ends, excluded.
+     * @return Its index, or -1 if it is not booked.
+     */
+    private int indexOf(int start, int end) {
+        int index = lastStartingBefore(start + 1);
+        return index >= 0 && starts[index] == start && ends[index] == end ? index : -1;
+    }
+
+    /**
+     * Finds the last booked interval starting strictly before a minute.
+     *
+     * @param minute The minute to compare the starts with.
+     * @return Its index, or -1 if every interval starts at or after the minute.
+     */
+    private int lastStartingBefore(int minute) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] < minute) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Finds the first booked interval ending strictly after a minute.
+     *
+     * @param minute The minute to compare the ends with.
+     * @return Its index, or the number of intervals if every interval ends at or before the minute.
+     */
+    private int firstEndingAfter(int minute) {
+        int low = 0;
+        int high = ends.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= minute) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
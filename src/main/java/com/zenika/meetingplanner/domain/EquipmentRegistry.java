@@ -0,0 +1,38 @@
+package com.zenika.meetingplanner.domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns equipment names into stable bit indexes, so that sets of equipment can be compared as bit masks.
+ * Indexes are assigned in order of first use and never reused for the lifetime of the application.
+ */
+public final class EquipmentRegistry {
+
+    private static final Map<String, Integer> INDEXES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private EquipmentRegistry() {
+    }
+
+    /**
+     * Returns the bit index of an equipment, assigning a new one on first use.
+     *
+     * @param equipment The equipment to intern.
+     * @return The bit index of the equipment name.
+     */
+    public static int indexOf(Equipment equipment) {
+        String name = equipment.getName() == null ? "" : equipment.getName();
+        return INDEXES.computeIfAbsent(name, key -> NEXT_INDEX.getAndIncrement());
+    }
+
+    /**
+     * Returns the number of distinct equipment names interned so far.
+     *
+     * @return The size of the registry.
+     */
+    public static int size() {
+        return NEXT_INDEX.get();
+    }
+}
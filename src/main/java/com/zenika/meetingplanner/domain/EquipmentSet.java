@@ -0,0 +1,77 @@
+package com.zenika.meetingplanner.domain;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Immutable set of equipment stored as a bit mask over {@link EquipmentRegistry} indexes.
+ * The first 64 equipment names fit in a single long; larger catalogs fall back to a BitSet for the remaining bits.
+ */
+public final class EquipmentSet {
+
+    public static final EquipmentSet EMPTY = new EquipmentSet(0L, null);
+
+    private final long mask;
+    private final BitSet overflow;
+
+    private EquipmentSet(long mask, BitSet overflow) {
+        this.mask = mask;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Builds the set of the given equipment.
+     *
+     * @param equipments The equipment list, possibly null or with duplicates.
+     * @return The corresponding EquipmentSet.
+     */
+    public static EquipmentSet of(List<Equipment> equipments) {
+        if (equipments == null || equipments.isEmpty()) {
+            return EMPTY;
+        }
+        long mask = 0L;
+        BitSet overflow = null;
+        for (Equipment equipment : equipments) {
+            int index = EquipmentRegistry.indexOf(equipment);
+            if (index < Long.SIZE) {
+                mask |= 1L << index;
+            } else {
+                if (overflow == null) {
+                    overflow = new BitSet();
+                }
+                overflow.set(index - Long.SIZE);
+            }
+        }
+        return new EquipmentSet(mask, overflow);
+    }
+
+    /**
+     * Checks if this set contains every equipment of another set.
+     *
+     * @param required The required equipment.
+     * @return True if all the required equipment is in this set, false otherwise.
+     */
+    public boolean containsAll(EquipmentSet required) {
+        if ((mask & required.mask) != required.mask) {
+            return false;
+        }
+        if (required.overflow == null) {
+            return true;
+        }
+        if (overflow == null) {
+            return required.overflow.isEmpty();
+        }
+        BitSet missing = (BitSet) required.overflow.clone();
+        missing.andNot(overflow);
+        return missing.isEmpty();
+    }
+
+    /**
+     * Returns the first 64 bits of the set.
+     *
+     * @return The mask of equipment with an index below 64.
+     */
+    public long getMask() {
+        return mask;
+    }
+}
@@ -0,0 +1,66 @@
+package com.zenika.meetingplanner.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bit operations on the hours of a day, where bit {@code n} of a mask stands for hour {@code n}.
+ */
+public final class HourSlots {
+
+    public static final int FIRST_HOUR = 8;
+    public static final int LAST_HOUR = 20;
+    public static final int HOURS_PER_DAY = 24;
+
+    private HourSlots() {
+    }
+
+    /**
+     * Returns the mask of a range of hours, clipped to the day.
+     *
+     * @param fromHour The first hour, included.
+     * @param toHour   The last hour, excluded.
+     * @return The mask with every hour of the range set.
+     */
+    public static int range(int fromHour, int toHour) {
+        int from = Math.max(fromHour, 0);
+        int to = Math.min(toHour, HOURS_PER_DAY);
+        return from < to ? ((1 << to) - 1) & ~((1 << from) - 1) : 0;
+    }
+
+    /**
+     * Returns the mask of the hours an interval of the day touches, even partly.
+     * Two intervals that overlap always share at least one hour.
+     *
+     * @param startMinute The first minute of the interval.
+     * @param endMinute   The minute the interval ends, excluded.
+     * @return The mask of the hours the interval touches.
+     */
+    public static int span(int startMinute, int endMinute) {
+        return range(Math.floorDiv(startMinute, 60), Math.floorDiv(endMinute + 59, 60));
+    }
+
+    /**
+     * Lists the hours set in a mask.
+     *
+     * @param hours The mask of hours.
+     * @return The hours in ascending order.
+     */
+    public static List<Integer> toList(int hours) {
+        List<Integer> list = new ArrayList<>(Integer.bitCount(hours));
+        while (hours != 0) {
+            list.add(Integer.numberOfTrailingZeros(hours));
+            hours &= hours - 1;
+        }
+        return list;
+    }
+
+    /**
+     * Returns the mask of the hours a meeting can start at, from 8:00 to 19:00.
+     *
+     * @return The working hours mask.
+     */
+    public static int workingHours() {
+        return range(FIRST_HOUR, LAST_HOUR);
+    }
+}
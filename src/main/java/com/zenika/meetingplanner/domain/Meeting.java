@@ -11,11 +11,35 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @ToString
 public class Meeting {
+
+    public static final int DEFAULT_DURATION_MINUTES = 60;
+    public static final int MIN_DURATION_MINUTES = 30;
+    public static final int MAX_DURATION_MINUTES = (HourSlots.LAST_HOUR - HourSlots.FIRST_HOUR) * 60;
+
     private int order;
     private LocalDate date; // Stores the date of the meeting
-    private int hour;       // Stores the hour (e.g., 8, 9, 10)
+    private int hour;       // Stores the starting hour (e.g., 8, 9, 10)
+    @Builder.Default
+    private int durationMinutes = DEFAULT_DURATION_MINUTES; // From 30 minutes to the whole working day
     private MeetingType type;
     private int participantCount;
     private Room room;
-}
 
+    /**
+     * Returns the minute of the day the meeting starts at.
+     *
+     * @return The start, in minutes since midnight.
+     */
+    public int getStartMinute() {
+        return hour * 60;
+    }
+
+    /**
+     * Returns the minute of the day the meeting ends at, excluded.
+     *
+     * @return The end, in minutes since midnight.
+     */
+    public int getEndMinute() {
+        return getStartMinute() + durationMinutes;
+    }
+}
@@ -6,15 +6,45 @@ import java.util.List;
 
 @Getter
 @Setter
-@Builder
 @ToString
-@AllArgsConstructor
 @NoArgsConstructor
 public class MeetingType {
+    private Long id;
     private String name;
     private int minimumCapacity;
     private List<Equipment> requiredEquipment;
 
+    // Required equipment as a bit mask, built on first use and reset by setRequiredEquipment
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private EquipmentSet requiredEquipmentSet;
+
+    @Builder
+    public MeetingType(Long id, String name, int minimumCapacity, List<Equipment> requiredEquipment) {
+        this.id = id;
+        this.name = name;
+        this.minimumCapacity = minimumCapacity;
+        this.requiredEquipment = requiredEquipment;
+    }
+
+    public void setRequiredEquipment(List<Equipment> requiredEquipment) {
+        this.requiredEquipment = requiredEquipment;
+        this.requiredEquipmentSet = null;
+    }
+
+    /**
+     * Returns the required equipment as a bit mask.
+     *
+     * @return The EquipmentSet of the required equipment.
+     */
+    public EquipmentSet getRequiredEquipmentSet() {
+        if (requiredEquipmentSet == null) {
+            requiredEquipmentSet = EquipmentSet.of(requiredEquipment);
+        }
+        return requiredEquipmentSet;
+    }
+
     /**
      * Checks if the room's capacity satisfies the minimum capacity required for this meeting type.
      *
@@ -4,14 +4,13 @@ import lombok.*;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-@Builder
 @Getter
 @Setter
 @ToString
-@AllArgsConstructor
 @NoArgsConstructor
 public class Room {
     private Long id;
@@ -20,16 +19,92 @@ public class Room {
     private List<Meeting> reservations = new ArrayList<>();
     private List<Equipment> equipments = new ArrayList<>();
 
+    // Schedule per epoch day, built from the reservations on first use and reset by setReservations
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private Map<Long, DaySchedule> schedulesByDay;
+
+    // Equipment as a bit mask, built on first use and reset by setEquipments
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private EquipmentSet equipmentSet;
+
+    @Builder
+    public Room(Long id, String name, int capacity, List<Meeting> reservations, List<Equipment> equipments) {
+        this.id = id;
+        this.name = name;
+        this.capacity = capacity;
+        this.reservations = reservations;
+        this.equipments = equipments;
+    }
+
+    public void setReservations(List<Meeting> reservations) {
+        this.reservations = reservations;
+        this.schedulesByDay = null;
+    }
+
+    public void setEquipments(List<Equipment> equipments) {
+        this.equipments = equipments;
+        this.equipmentSet = null;
+    }
+
     /**
-     * Checks if the room is available at a given date and hour.
+     * Returns the room's equipment as a bit mask.
      *
-     * @param date The date to check availability.
-     * @param hour The hour to check availability (e.g., 8, 9, 10).
+     * @return The EquipmentSet of the room.
+     */
+    public EquipmentSet getEquipmentSet() {
+        if (equipmentSet == null) {
+            equipmentSet = EquipmentSet.of(equipments);
+        }
+        return equipmentSet;
+    }
+
+    /**
+     * Checks if the room is available for a meeting of any length.
+     *
+     * @param date            The date to check availability.
+     * @param hour            The starting hour of the meeting.
+     * @param durationMinutes The length of the meeting, in minutes.
+     * @param bufferMinutes   The cleaning time to keep before and after the other meetings.
      * @return True if the room is available, false otherwise.
      */
-    public boolean isAvailableAt(LocalDate date, int hour) {
-        return reservations.stream().noneMatch(meeting -> meeting.getDate().isEqual(date)
-                && (meeting.getHour() == hour || meeting.getHour() == hour + 1 || meeting.getHour() == hour - 1));
+    public boolean isAvailableAt(LocalDate date, int hour, int durationMinutes, int bufferMinutes) {
+        return getSchedule(date).isFree(hour * 60, hour * 60 + durationMinutes, bufferMinutes);
+    }
+
+    /**
+     * Returns the schedule of the room on a given date.
+     *
+     * @param date The date to look up.
+     * @return The booked intervals of the date.
+     */
+    public DaySchedule getSchedule(LocalDate date) {
+        if (schedulesByDay == null) {
+            schedulesByDay = indexReservations();
+        }
+        return schedulesByDay.getOrDefault(date.toEpochDay(), DaySchedule.EMPTY);
+    }
+
+    /**
+     * Groups the reservations by day into schedules.
+     *
+     * @return The schedule per epoch day.
+     */
+    private Map<Long, DaySchedule> indexReservations() {
+        Map<Long, List<Meeting>> meetingsByDay = new HashMap<>();
+        if (reservations != null) {
+            for (Meeting meeting : reservations) {
+                if (meeting.getDate() != null) {
+                    meetingsByDay.computeIfAbsent(meeting.getDate().toEpochDay(), day -> new ArrayList<>()).add(meeting);
+                }
+            }
+        }
+        Map<Long, DaySchedule> index = new HashMap<>();
+        meetingsByDay.forEach((day, meetings) -> index.put(day, DaySchedule.of(meetings)));
+        return index;
     }
 
     /**
@@ -39,7 +114,7 @@ public class Room {
      * @return True if the room contains all the required equipment, false otherwise.
      */
     public boolean hasAllRequiredEquipment(List<Equipment> requiredEquipment) {
-        return new HashSet<>(equipments).containsAll(requiredEquipment);
+        return getEquipmentSet().containsAll(EquipmentSet.of(requiredEquipment));
     }
 
     /**
@@ -59,26 +134,20 @@ public class Room {
      * @return True if the room is suitable for the meeting type, false otherwise.
      */
     public boolean isSuitableForMeetingType(MeetingType meetingType) {
-        return hasAllRequiredEquipment(meetingType.getRequiredEquipment())
+        return getEquipmentSet().containsAll(meetingType.getRequiredEquipmentSet())
                 && meetingType.isCapacitySatisfied(this.getCapacity());
     }
 
     /**
      * Finds the next available hours for the room.
      *
-     * @param date The date to check for availability.
+     * @param date          The date to check for availability.
+     * @param bufferMinutes The cleaning time to keep before and after the other meetings.
      * @return A list of available time slots in the format of ReservationKey.
      */
-    public List<Integer> findAvailableHoursOnDate(LocalDate date) {
-        List<Integer> availableHours = new ArrayList<>();
-
-        for (int hour = 8; hour < 20; hour++) { // Iterate from 8:00 to 20:00
-            if (isAvailableAt(date, hour)) {
-                availableHours.add(hour); // Add available hours to the list
-            }
-        }
-
-        return availableHours;
+    public List<Integer> findAvailableHoursOnDate(LocalDate date, int bufferMinutes) {
+        // One-hour meetings from 8:00 to 20:00
+        return HourSlots.toList(getSchedule(date).freeHours(Meeting.DEFAULT_DURATION_MINUTES, bufferMinutes));
     }
 
 }
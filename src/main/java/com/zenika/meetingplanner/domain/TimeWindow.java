@@ -0,0 +1,14 @@
+package com.zenika.meetingplanner.domain;
+
+/**
+ * A part of a day, booked or free, in minutes since midnight.
+ *
+ * @param startMinute The first minute of the window.
+ * @param endMinute   The minute the window ends, excluded.
+ */
+public record TimeWindow(int startMinute, int endMinute) {
+
+    public int length() {
+        return endMinute - startMinute;
+    }
+}
@@ -0,0 +1,51 @@
+-- Schema previously generated by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at this version and skip it.
+
+create table equipment (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    primary key (id),
+    constraint uk_equipment_name unique (name)
+);
+
+create table meeting_types (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    minimum_capacity integer not null,
+    primary key (id),
+    constraint uk_meeting_types_name unique (name)
+);
+
+create table meeting_type_equipment (
+    meeting_type_id bigint not null,
+    equipment_id bigint not null,
+    constraint fk_meeting_type_equipment_meeting_type foreign key (meeting_type_id) references meeting_types (id),
+    constraint fk_meeting_type_equipment_equipment foreign key (equipment_id) references equipment (id)
+);
+
+create table rooms (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    capacity integer not null,
+    primary key (id),
+    constraint uk_rooms_name unique (name)
+);
+
+create table room_equipment (
+    room_id bigint not null,
+    equipment_id bigint not null,
+    constraint fk_room_equipment_room foreign key (room_id) references rooms (id),
+    constraint fk_room_equipment_equipment foreign key (equipment_id) references equipment (id)
+);
+
+create table meetings (
+    id bigint not null auto_increment,
+    date date not null,
+    hour integer not null,
+    participant_count integer not null,
+    meeting_type_id bigint not null,
+    room_id bigint not null,
+    primary key (id),
+    constraint fk_meetings_meeting_type foreign key (meeting_type_id) references meeting_types (id),
+    constraint fk_meetings_room foreign key (room_id) references rooms (id)
+);
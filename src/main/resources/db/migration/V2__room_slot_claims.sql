@@ -0,0 +1,11 @@
+-- One row per booked hour of a room, so that the unique key rejects concurrent bookings of the same slot.
+-- Databases upgraded while Hibernate still generated the schema may already have it.
+create table if not exists room_slot_claims (
+    id bigint not null auto_increment,
+    room_id bigint not null,
+    date date not null,
+    hour integer not null,
+    primary key (id),
+    constraint uk_room_slot_claims_room_date_hour unique (room_id, date, hour),
+    constraint fk_room_slot_claims_room foreign key (room_id) references rooms (id) on delete cascade
+);
@@ -0,0 +1,6 @@
+-- Availability checks look a room up at a date and hour
+create index idx_meetings_room_date_hour on meetings (room_id, date, hour);
+
+-- Loading the booked hours of a date, exporting a date range and archiving past dates scan by date;
+-- room_id and hour make it covering for the booked hours
+create index idx_meetings_date_room_hour on meetings (date, room_id, hour);
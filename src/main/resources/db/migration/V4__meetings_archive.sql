@@ -0,0 +1,14 @@
+-- Past meetings moved out of the meetings table by the archive job, keeping their ids.
+-- No foreign keys, so that archived meetings do not prevent removing rooms or meeting types.
+create table meetings_archive (
+    id bigint not null,
+    date date not null,
+    hour integer not null,
+    participant_count integer not null,
+    meeting_type_id bigint not null,
+    room_id bigint not null,
+    archived_at timestamp not null default current_timestamp,
+    primary key (id)
+);
+
+create index idx_meetings_archive_date on meetings_archive (date);
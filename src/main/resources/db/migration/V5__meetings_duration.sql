@@ -0,0 +1,3 @@
+-- Meetings last from 30 minutes to a whole working day; existing meetings were one hour long.
+alter table meetings add column duration_minutes integer not null default 60;
+alter table meetings_archive add column duration_minutes integer not null default 60;
@@ -0,0 +1,9 @@
+-- Single-row counter of catalog changes, polled by every instance to rebuild its catalog snapshot.
+-- Scripts that change rooms, meeting types or equipment must increment it too.
+create table catalog_version (
+    id integer not null,
+    version bigint not null,
+    primary key (id)
+);
+
+insert into catalog_version (id, version) values (1, 0);
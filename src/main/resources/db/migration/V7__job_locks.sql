@@ -0,0 +1,13 @@
+-- One row per scheduled job that must run on a single instance at a time.
+-- An instance takes the lock by moving locked_until forward while it is in the past.
+create table job_locks (
+    name varchar(64) not null,
+    locked_until timestamp not null,
+    locked_by varchar(255) not null,
+    primary key (name)
+);
+
+insert into job_locks (name, locked_until, locked_by) values ('meeting-archive', '1970-01-02 00:00:00', '');
+
+-- The archive job prunes the slot claims of past dates
+create index idx_room_slot_claims_date on room_slot_claims (date);
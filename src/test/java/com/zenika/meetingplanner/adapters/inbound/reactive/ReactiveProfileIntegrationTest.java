@@ -0,0 +1,99 @@
+package com.zenika.meetingplanner.adapters.inbound.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"in-memory", "reactive"})
+class ReactiveProfileIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void journalPath(DynamicPropertyRegistry registry) throws IOException {
+        String journalPath = Files.createTempDirectory("journal").resolve("bookings.journal").toString();
+        registry.add("meetingplanner.in-memory.journal-path", () -> journalPath);
+    }
+
+    @Test
+    void testAssignMeetingToBestRoom_ShouldBookOnTheReactiveStack() {
+        String request = """
+                {
+                    "meetingType": "RS",
+                    "requiredCapacity": 2,
+                    "meetingDate": "2099-12-01",
+                    "meetingHour": 10
+                }
+                """;
+
+        webTestClient.post().uri("/api/meetings/assign-to-best-room")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.meetingType").isEqualTo("RS")
+                .jsonPath("$.meetingHour").isEqualTo(10);
+    }
+
+    @Test
+    void testImportThenExport_ShouldStreamTheImportedMeetings() {
+        // Arrange
+        String csv = """
+                meetingType,participantCount,meetingDate,meetingHour,roomName
+                RS,2,2099-12-02,9,E1001
+                RS,2,2099-12-02,11,E2001
+                """;
+        webTestClient.post().uri("/api/meetings/import")
+                .contentType(MediaType.valueOf("text/csv"))
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.imported").isEqualTo(2)
+                .jsonPath("$.rejected").isEqualTo(0);
+
+        // Act
+        String body = webTestClient.get().uri("/api/meetings/export?from=2099-12-02&to=2099-12-02")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Assert
+        assertEquals(2, body.lines().count());
+    }
+
+    @Test
+    void testExportMeetings_ShouldReturnBadRequest_WhenTheRangeIsReversed() {
+        // Act & Assert
+        webTestClient.get().uri("/api/meetings/export?from=2099-12-03&to=2099-12-02")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetBestRoomWithAvailableHours_ShouldAnswerOnTheReactiveStack() {
+        // Act & Assert
+        webTestClient.get().uri("/api/rooms/best-room-with-available-hours?meetingType=RS&requiredCapacity=2&meetingDate=2099-12-04")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").exists();
+    }
+}
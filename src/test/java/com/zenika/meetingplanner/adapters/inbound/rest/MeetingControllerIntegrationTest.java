@@ -17,12 +17,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -74,7 +78,7 @@ public class MeetingControllerIntegrationTest {
 
         // Create a meeting associated with the saved room
         JpaMeeting meeting = JpaMeeting.builder()
-                .date(LocalDate.of(2024, 12, 1))
+                .date(LocalDate.of(2099, 12, 1))
                 .hour(10)
                 .room(savedRoom) // Assign the saved room
                 .type(meetingType) // Assign the meeting type
@@ -94,7 +98,7 @@ public class MeetingControllerIntegrationTest {
                                 {
                                     "meetingType": "SPEC",
                                     "requiredCapacity": 10,
-                                    "meetingDate": "2024-12-01",
+                                    "meetingDate": "2099-12-01",
                                     "meetingHour": 15
                                 }
                                 """))
@@ -112,12 +116,16 @@ public class MeetingControllerIntegrationTest {
                                 {
                                     "meetingType": "SPEC",
                                     "requiredCapacity": 25,
-                                    "meetingDate": "2024-12-01",
+                                    "meetingDate": "2099-12-01",
                                     "meetingHour": 10
                                 }
                                 """))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("No suitable room found for the given meeting type, capacity, and time."));
+                .andExpect(jsonPath("$.message").value("No suitable room found for the given meeting type, capacity, and time."))
+                .andExpect(jsonPath("$.alternatives.length()").value(4))
+                .andExpect(jsonPath("$.alternatives[0].hour").value(8))
+                .andExpect(jsonPath("$.alternatives[1].hour").value(12))
+                .andExpect(jsonPath("$.alternatives[0].roomName").value("Conference Room A"));
     }
 
     @Test
@@ -135,6 +143,72 @@ public class MeetingControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testAssignMeetingsInBatch_ShouldReturnOneResultPerRequest() throws Exception {
+        mockMvc.perform(post("/api/meetings/assign-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [
+                                    { "meetingType": "SPEC", "participantCount": 10, "meetingDate": "2099-12-02", "meetingHour": 9 },
+                                    { "meetingType": "SPEC", "participantCount": 10, "meetingDate": "2099-12-02", "meetingHour": 10 },
+                                    { "meetingType": "UNKNOWN", "participantCount": 10, "meetingDate": "2099-12-02", "meetingHour": 14 }
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].assigned").value(true))
+                .andExpect(jsonPath("$[0].meeting.assignedRoomName").value("Conference Room A"))
+                .andExpect(jsonPath("$[1].assigned").value(false))
+                .andExpect(jsonPath("$[1].error").value("No suitable room found for the given meeting type, capacity, and time."))
+                .andExpect(jsonPath("$[1].alternatives[0].date").value("2099-12-02"))
+                .andExpect(jsonPath("$[1].alternatives[0].hour").value(11))
+                .andExpect(jsonPath("$[2].assigned").value(false))
+                .andExpect(jsonPath("$[2].error").value("Meeting type 'UNKNOWN' not found."));
+    }
+
+    @Test
+    void testExportMeetings_ShouldStreamOneJsonLinePerMeeting() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/meetings/export")
+                        .param("from", "2099-12-01")
+                        .param("to", "2099-12-01"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(startsWith(
+                        "{\"meetingType\":\"SPEC\",\"participantCount\":0,\"meetingDate\":\"2099-12-01\",\"meetingHour\":10,\"durationMinutes\":60,\"assignedRoomName\":\"Conference Room A\"}\n")));
+    }
+
+    @Test
+    void testExportMeetings_ShouldReturnBadRequest_WhenRangeIsReversed() throws Exception {
+        mockMvc.perform(get("/api/meetings/export")
+                        .param("from", "2099-12-02")
+                        .param("to", "2099-12-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testImportMeetings_ShouldSaveValidRowsAndReportRejectedOnes() throws Exception {
+        mockMvc.perform(post("/api/meetings/import")
+                        .contentType("text/csv")
+                        .content("""
+                                meetingType,participantCount,meetingDate,meetingHour,roomName,durationMinutes
+                                SPEC,8,2099-06-01,9,Conference Room A,120
+                                SPEC,8,2099-06-01,11,Conference Room A
+                                SPEC,8,2099-06-01,12,Unknown Room,
+                                not,a,valid,row
+                                SPEC,8,2099-06-01,14,Conference Room A
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[1].error").value("Room 'Unknown Room' not found."))
+                .andExpect(jsonPath("$.errors[2].error").value("Missing or malformed fields."));
+    }
+
+
     @AfterAll
     void tearDownDatabase() {
         // Clean up database after tests
@@ -112,7 +112,7 @@ public class RoomControllerIntegrationTest {
                         .param("meetingDate", "2024-12-01")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("No suitable room found for the given meeting type and capacity."));
+                .andExpect(jsonPath("$.message").value("No suitable room found for the given meeting type and capacity."));
     }
 
     @Test
@@ -126,6 +126,61 @@ public class RoomControllerIntegrationTest {
                 .andExpect(content().string("Invalid date format: invalid-date"));
     }
 
+    @Test
+    void testGetAvailabilityCalendar_ShouldReturnBestRoomPerDayAndHour() throws Exception {
+        mockMvc.perform(get("/api/rooms/availability-calendar")
+                        .param("meetingType", "SPEC")
+                        .param("requiredCapacity", "10")
+                        .param("startDate", "2024-12-09")
+                        .param("endDate", "2024-12-10")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hours[0]").value(8))
+                .andExpect(jsonPath("$.days.length()").value(2))
+                .andExpect(jsonPath("$.days[0].date").value("2024-12-09"))
+                .andExpect(jsonPath("$.days[0].bestRooms[0]").value("Conference Room A"))
+                .andExpect(jsonPath("$.days[1].bestRooms[11]").value("Conference Room A"));
+    }
+
+    @Test
+    void testGetAvailabilityCalendar_ShouldReturnBadRequest_WhenRangeIsReversed() throws Exception {
+        mockMvc.perform(get("/api/rooms/availability-calendar")
+                        .param("meetingType", "SPEC")
+                        .param("requiredCapacity", "10")
+                        .param("startDate", "2024-12-02")
+                        .param("endDate", "2024-12-01")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetEarliestSlots_ShouldReturnEarliestSlotsInBestRoom() throws Exception {
+        mockMvc.perform(get("/api/rooms/earliest-slots")
+                        .param("meetingType", "SPEC")
+                        .param("requiredCapacity", "10")
+                        .param("startDate", "2024-12-16")
+                        .param("count", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.durationMinutes").value(60))
+                .andExpect(jsonPath("$.slots.length()").value(2))
+                .andExpect(jsonPath("$.slots[0].date").value("2024-12-16"))
+                .andExpect(jsonPath("$.slots[0].hour").value(8))
+                .andExpect(jsonPath("$.slots[0].roomName").value("Conference Room A"))
+                .andExpect(jsonPath("$.slots[1].hour").value(9));
+    }
+
+    @Test
+    void testGetEarliestSlots_ShouldReturnBadRequest_WhenCountIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/rooms/earliest-slots")
+                        .param("meetingType", "SPEC")
+                        .param("requiredCapacity", "10")
+                        .param("startDate", "2024-12-16")
+                        .param("count", "0")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @AfterAll
     void tearDownDatabase() {
         // Clean up database after tests
@@ -0,0 +1,144 @@
+package com.zenika.meetingplanner.adapters.outbound.cache;
+
+import com.zenika.meetingplanner.adapters.outbound.jpa.MeetingTypeRepositoryAdapter;
+import com.zenika.meetingplanner.application.events.CatalogChangedEvent;
+import com.zenika.meetingplanner.domain.MeetingType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingMeetingTypeRepositoryAdapterTest {
+
+    @Mock
+    private MeetingTypeRepositoryAdapter delegate;
+
+    private CachingMeetingTypeRepositoryAdapter cachingAdapter;
+
+    private MeetingType spec;
+    private MeetingType rs;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cachingAdapter = new CachingMeetingTypeRepositoryAdapter(delegate, 2);
+
+        spec = MeetingType.builder().id(1L).name("SPEC").minimumCapacity(3).build();
+        rs = MeetingType.builder().id(2L).name("RS").minimumCapacity(3).build();
+    }
+
+    @Test
+    void testFindByName_ShouldServeFromCache_AfterPreload() {
+        // Arrange
+        when(delegate.findAll()).thenReturn(List.of(spec, rs));
+        cachingAdapter.run(null);
+
+        // Act
+        Optional<MeetingType> result = cachingAdapter.findByName("SPEC");
+
+        // Assert
+        assertSame(spec, result.orElseThrow());
+        assertEquals(1, cachingAdapter.getHitCount());
+        assertEquals(0, cachingAdapter.getMissCount());
+        verify(delegate, never()).findByName(anyString());
+    }
+
+    @Test
+    void testFindByName_ShouldLoadOnce_WhenNotCached() {
+        // Arrange
+        when(delegate.findByName("SPEC")).thenReturn(Optional.of(spec));
+
+        // Act
+        cachingAdapter.findByName("SPEC");
+        cachingAdapter.findByName("SPEC");
+
+        // Assert
+        verify(delegate, times(1)).findByName("SPEC");
+        assertEquals(1, cachingAdapter.getHitCount());
+        assertEquals(1, cachingAdapter.getMissCount());
+    }
+
+    @Test
+    void testFindByName_ShouldNotCacheUnknownTypes() {
+        // Arrange
+        when(delegate.findByName("UNKNOWN")).thenReturn(Optional.empty());
+
+        // Act
+        cachingAdapter.findByName("UNKNOWN");
+        Optional<MeetingType> result = cachingAdapter.findByName("UNKNOWN");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(delegate, times(2)).findByName("UNKNOWN");
+    }
+
+    @Test
+    void testFindByName_ShouldEvictOldestEntry_WhenMaxSizeReached() {
+        // Arrange
+        MeetingType vc = MeetingType.builder().id(3L).name("VC").minimumCapacity(3).build();
+        when(delegate.findAll()).thenReturn(List.of(spec, rs, vc));
+        when(delegate.findByName("SPEC")).thenReturn(Optional.of(spec));
+
+        // Act
+        cachingAdapter.run(null);
+        cachingAdapter.findByName("SPEC");
+
+        // Assert
+        assertEquals(2, cachingAdapter.getSize());
+        verify(delegate, times(1)).findByName("SPEC");
+    }
+
+    @Test
+    void testInvalidate_ShouldReloadMeetingType() {
+        // Arrange
+        when(delegate.findByName("SPEC")).thenReturn(Optional.of(spec));
+        cachingAdapter.findByName("SPEC");
+
+        // Act
+        cachingAdapter.invalidate("SPEC");
+        cachingAdapter.findByName("SPEC");
+
+        // Assert
+        verify(delegate, times(2)).findByName("SPEC");
+    }
+
+    @Test
+    void testOnCatalogChanged_ShouldReloadMeetingTypesChangedElsewhere() {
+        // Arrange
+        when(delegate.findAll()).thenReturn(List.of(spec));
+        cachingAdapter.run(null);
+        MeetingType updatedSpec = MeetingType.builder().id(1L).name("SPEC").minimumCapacity(5).build();
+        when(delegate.findAll()).thenReturn(List.of(updatedSpec));
+
+        // Act
+        cachingAdapter.onCatalogChanged(new CatalogChangedEvent("catalog_version"));
+
+        // Assert
+        assertSame(updatedSpec, cachingAdapter.findByName("SPEC").orElseThrow());
+        verify(delegate, never()).findByName(anyString());
+    }
+
+    @Test
+    void testBindTo_ShouldPublishHitsMissesAndSize() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cachingAdapter.bindTo(registry);
+        when(delegate.findByName("SPEC")).thenReturn(Optional.of(spec));
+
+        // Act
+        cachingAdapter.findByName("SPEC");
+        cachingAdapter.findByName("SPEC");
+
+        // Assert
+        assertEquals(1, registry.get("meetingplanner.meeting-type-cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("meetingplanner.meeting-type-cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("meetingplanner.meeting-type-cache.size").gauge().value());
+    }
+}
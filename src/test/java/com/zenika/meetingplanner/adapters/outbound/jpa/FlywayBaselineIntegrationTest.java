@@ -0,0 +1,53 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class FlywayBaselineIntegrationTest {
+
+    private static final String SCHEMA = "meetingplanner_baseline";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // Drops the scratch schema, which Flyway created
+        Flyway.configure().dataSource(dataSource).schemas(SCHEMA).cleanDisabled(false).load().clean();
+    }
+
+    @Test
+    void testMigrate_ShouldApplyEveryLaterMigration_WhenTheDatabaseWasCreatedByHibernate() {
+        // Arrange: the baseline schema without any migration history, as Hibernate left it
+        Flyway.configure().dataSource(dataSource).schemas(SCHEMA).createSchemas(true).target("1").load().migrate();
+        jdbcTemplate.execute("drop table " + SCHEMA + ".flyway_schema_history");
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+
+        // Act
+        MigrateResult result = flyway.migrate();
+
+        // Assert
+        assertTrue(result.success);
+        assertEquals("2", result.migrations.get(0).version);
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from " + SCHEMA + ".room_slot_claims", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from " + SCHEMA + ".meetings_archive", Integer.class));
+    }
+}
@@ -0,0 +1,110 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa;
+
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaEquipment;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaEquipmentRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingTypeRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaRoomRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class MeetingArchiveIntegrationTest {
+
+    private static final LocalDate OLD_DATE = LocalDate.of(2020, 1, 6);
+    private static final LocalDate RECENT_DATE = LocalDate.of(2020, 3, 2);
+
+    @Autowired
+    private MeetingRepositoryAdapter meetingRepositoryAdapter;
+
+    @Autowired
+    private JpaRoomRepository roomRepository;
+
+    @Autowired
+    private JpaMeetingTypeRepository meetingTypeRepository;
+
+    @Autowired
+    private JpaEquipmentRepository equipmentRepository;
+
+    @Autowired
+    private JpaMeetingRepository meetingRepository;
+
+    @Autowired
+    private JobLockAdapter jobLockAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testArchiveBefore_ShouldMoveOnlyPastMeetingsToTheArchiveTable() {
+        // Arrange
+        JpaEquipment equipment = equipmentRepository.save(JpaEquipment.builder().name("Archive Board").build());
+        JpaMeetingType meetingType = meetingTypeRepository.save(JpaMeetingType.builder()
+                .name("ARCHIVE")
+                .minimumCapacity(1)
+                .requiredEquipment(List.of(equipment))
+                .build());
+        JpaRoom room = roomRepository.save(JpaRoom.builder()
+                .name("Archive Room")
+                .capacity(5)
+                .equipments(new ArrayList<>(List.of(equipment)))
+                .reservations(new ArrayList<>())
+                .build());
+        for (LocalDate date : List.of(OLD_DATE, OLD_DATE.plusDays(1), RECENT_DATE)) {
+            meetingRepository.save(JpaMeeting.builder().date(date).hour(9).participantCount(3).type(meetingType).room(room).build());
+            jdbcTemplate.update("insert into room_slot_claims (room_id, date, hour) values (?, ?, 9)", room.getId(), date);
+        }
+
+        // Act: chunks of one meeting, as the job would call it until a chunk is not full
+        int firstChunk = meetingRepositoryAdapter.archiveBefore(LocalDate.of(2020, 2, 1), 1);
+        int secondChunk = meetingRepositoryAdapter.archiveBefore(LocalDate.of(2020, 2, 1), 1);
+        int thirdChunk = meetingRepositoryAdapter.archiveBefore(LocalDate.of(2020, 2, 1), 1);
+        while (meetingRepositoryAdapter.deleteSlotClaimsBefore(LocalDate.of(2020, 2, 1), 1) == 1) {
+            // Delete the claims one chunk at a time, like the job
+        }
+
+        // Assert
+        assertEquals(List.of(1, 1, 0), List.of(firstChunk, secondChunk, thirdChunk));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "select count(*) from meetings_archive where room_id = ?", Integer.class, room.getId()));
+        assertEquals(1, meetingRepository.findRoomHoursByDate(RECENT_DATE).size());
+        assertTrue(meetingRepository.findRoomHoursByDate(OLD_DATE).isEmpty());
+        assertEquals(List.of(RECENT_DATE), jdbcTemplate.queryForList(
+                "select date from room_slot_claims where room_id = ?", LocalDate.class, room.getId()));
+
+        // Clean up
+        jdbcTemplate.update("delete from room_slot_claims where room_id = ?", room.getId());
+        meetingRepository.deleteAll(meetingRepository.findAll().stream()
+                .filter(meeting -> meeting.getRoom().getId().equals(room.getId())).toList());
+        roomRepository.delete(room);
+        meetingTypeRepository.delete(meetingType);
+        equipmentRepository.delete(equipment);
+    }
+
+    @Test
+    void testTryLock_ShouldLetASingleHolderRunTheJob() {
+        // Act
+        boolean first = jobLockAdapter.tryLock("meeting-archive", Duration.ofMinutes(5));
+        boolean second = jobLockAdapter.tryLock("meeting-archive", Duration.ofMinutes(5));
+        jobLockAdapter.unlock("meeting-archive");
+        boolean afterUnlock = jobLockAdapter.tryLock("meeting-archive", Duration.ofMinutes(5));
+        jobLockAdapter.unlock("meeting-archive");
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertTrue(afterUnlock);
+    }
+}
@@ -1,18 +1,29 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa;
 
 import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
+import com.zenika.meetingplanner.adapters.outbound.jpa.mappers.JpaDomainMapper;
 import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingTypeRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaRoomRepository;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.DaySchedule;
 import com.zenika.meetingplanner.domain.Meeting;
 import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.mockito.Spy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,9 +34,17 @@ class MeetingRepositoryAdapterTest {
     private JpaMeetingRepository jpaMeetingRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private JpaRoomRepository jpaRoomRepository;
+
+    @Mock
+    private JpaMeetingTypeRepository jpaMeetingTypeRepository;
+
+    @Spy
+    private JpaDomainMapper mapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
-    @InjectMocks
     private MeetingRepositoryAdapter meetingRepositoryAdapter;
 
     private Meeting domainMeeting;
@@ -34,6 +53,8 @@ class MeetingRepositoryAdapterTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        meetingRepositoryAdapter = new MeetingRepositoryAdapter(jpaMeetingRepository, jpaRoomRepository, jpaMeetingTypeRepository,
+                mapper, jdbcTemplate, DaySchedule.DEFAULT_BUFFER_MINUTES);
 
         // Initialize domain Meeting
         domainMeeting = Meeting.builder()
@@ -60,9 +81,7 @@ class MeetingRepositoryAdapterTest {
         // Arrange
         domainMeeting.setType(null);
         domainMeeting.setRoom(null);
-        when(modelMapper.map(domainMeeting, JpaMeeting.class)).thenReturn(jpaMeeting);
-        when(jpaMeetingRepository.save(jpaMeeting)).thenReturn(jpaMeeting);
-        when(modelMapper.map(jpaMeeting, Meeting.class)).thenReturn(domainMeeting);
+        when(jpaMeetingRepository.save(any(JpaMeeting.class))).thenReturn(jpaMeeting);
 
         // Act
         Meeting savedMeeting = meetingRepositoryAdapter.save(domainMeeting);
@@ -80,9 +99,7 @@ class MeetingRepositoryAdapterTest {
         // Arrange
         domainMeeting.setType(null);
         domainMeeting.setRoom(null);
-        when(modelMapper.map(domainMeeting, JpaMeeting.class)).thenReturn(jpaMeeting);
-        when(jpaMeetingRepository.save(jpaMeeting)).thenReturn(jpaMeeting);
-        when(modelMapper.map(jpaMeeting, Meeting.class)).thenReturn(domainMeeting);
+        when(jpaMeetingRepository.save(any(JpaMeeting.class))).thenReturn(jpaMeeting);
 
         // Act
         meetingRepositoryAdapter.save(domainMeeting);
@@ -98,4 +115,138 @@ class MeetingRepositoryAdapterTest {
         assertEquals(jpaMeeting.getParticipantCount(), capturedJpaMeeting.getParticipantCount());
     }
 
+    @Test
+    void testSave_ShouldReferenceMeetingTypeById_WhenIdIsKnown() {
+        // Arrange
+        domainMeeting.getType().setId(2L);
+        JpaMeetingType typeReference = new JpaMeetingType();
+        when(jpaMeetingTypeRepository.getReferenceById(2L)).thenReturn(typeReference);
+        when(jpaMeetingRepository.save(any(JpaMeeting.class))).thenReturn(jpaMeeting);
+
+        // Act
+        Meeting savedMeeting = meetingRepositoryAdapter.save(domainMeeting);
+
+        // Assert
+        ArgumentCaptor<JpaMeeting> captor = ArgumentCaptor.forClass(JpaMeeting.class);
+        verify(jpaMeetingRepository).save(captor.capture());
+        assertSame(typeReference, captor.getValue().getType());
+        assertSame(domainMeeting.getType(), savedMeeting.getType());
+        verify(jpaMeetingTypeRepository, never()).findByName(anyString());
+    }
+
+    @Test
+    void testSave_ShouldReferenceRoomById_WithoutLoadingIt() {
+        // Arrange
+        domainMeeting.setRoom(Room.builder().id(3L).name("Room A").build());
+        JpaRoom roomReference = new JpaRoom();
+        when(jpaRoomRepository.getReferenceById(3L)).thenReturn(roomReference);
+        when(jpaMeetingRepository.save(any(JpaMeeting.class))).thenReturn(jpaMeeting);
+
+        // Act
+        Meeting savedMeeting = meetingRepositoryAdapter.save(domainMeeting);
+
+        // Assert
+        ArgumentCaptor<JpaMeeting> captor = ArgumentCaptor.forClass(JpaMeeting.class);
+        verify(jpaMeetingRepository).save(captor.capture());
+        assertSame(roomReference, captor.getValue().getRoom());
+        assertEquals("Room A", savedMeeting.getRoom().getName());
+        verify(jpaRoomRepository, never()).findById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSaveAll_ShouldInsertMeetingsInOneJdbcBatch() {
+        // Arrange
+        domainMeeting.getType().setId(2L);
+        domainMeeting.setRoom(Room.builder().id(3L).build());
+        List<Meeting> meetings = List.of(domainMeeting, domainMeeting);
+
+        // Act
+        List<Meeting> savedMeetings = meetingRepositoryAdapter.saveAll(meetings);
+
+        // Assert
+        assertEquals(meetings, savedMeetings);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), eq(meetings), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(jpaMeetingRepository, never()).save(any(JpaMeeting.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSave_ShouldThrowRoomSlotTakenException_WhenSlotIsAlreadyClaimed() {
+        // Arrange
+        domainMeeting.setRoom(Room.builder().id(3L).build());
+        when(jpaMeetingRepository.save(any(JpaMeeting.class))).thenReturn(jpaMeeting);
+        when(jdbcTemplate.batchUpdate(contains("room_slot_claims"), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("uk_room_slot_claims_room_date_hour"));
+
+        // Act & Assert
+        assertThrows(RoomSlotTakenException.class, () -> meetingRepositoryAdapter.save(domainMeeting));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSave_ShouldClaimEveryHourTouchedByTheMeetingAndItsBuffer() {
+        // Arrange: 10:00-12:30, cleaned until 13:30
+        domainMeeting.setRoom(Room.builder().id(3L).build());
+        domainMeeting.setDurationMinutes(150);
+        when(jpaMeetingRepository.save(any(JpaMeeting.class))).thenReturn(jpaMeeting);
+        ArgumentCaptor<List<?>> claims = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        meetingRepositoryAdapter.save(domainMeeting);
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(contains("room_slot_claims"), claims.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(4, claims.getValue().size());
+    }
+
+    @Test
+    void testFindAllByDate_ShouldMapRoomHours() {
+        // Arrange
+        LocalDate date = LocalDate.of(2024, 12, 1);
+        JpaMeetingRepository.RoomHour roomHour = mock(JpaMeetingRepository.RoomHour.class);
+        when(roomHour.getRoomId()).thenReturn(3L);
+        when(roomHour.getHour()).thenReturn(10);
+        when(roomHour.getDurationMinutes()).thenReturn(90);
+        when(jpaMeetingRepository.findRoomHoursByDate(date)).thenReturn(List.of(roomHour));
+
+        // Act
+        List<Meeting> meetings = meetingRepositoryAdapter.findAllByDate(date);
+
+        // Assert
+        assertEquals(1, meetings.size());
+        assertEquals(date, meetings.get(0).getDate());
+        assertEquals(10, meetings.get(0).getHour());
+        assertEquals(90, meetings.get(0).getDurationMinutes());
+        assertEquals(3L, meetings.get(0).getRoom().getId());
+        verify(jpaMeetingRepository, never()).findAll();
+    }
+
+    @Test
+    void testArchiveBefore_ShouldCopyThenDeleteTheSelectedMeetings() {
+        // Arrange
+        LocalDate cutoff = LocalDate.of(2024, 9, 1);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), eq(2))).thenReturn(List.of(7L, 9L));
+
+        // Act
+        int archived = meetingRepositoryAdapter.archiveBefore(cutoff, 2);
+
+        // Assert
+        assertEquals(2, archived);
+        verify(jdbcTemplate).update(startsWith("insert into meetings_archive"), eq(7L), eq(9L));
+        verify(jdbcTemplate).update(eq("delete from meetings where id in (?, ?)"), eq(7L), eq(9L));
+    }
+
+    @Test
+    void testArchiveBefore_ShouldDoNothing_WhenNoMeetingIsOldEnough() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), anyInt())).thenReturn(List.of());
+
+        // Act
+        int archived = meetingRepositoryAdapter.archiveBefore(LocalDate.of(2024, 9, 1), 1000);
+
+        // Assert
+        assertEquals(0, archived);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
 }
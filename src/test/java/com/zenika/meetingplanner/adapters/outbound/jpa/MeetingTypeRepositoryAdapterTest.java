@@ -1,6 +1,8 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa;
 
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaEquipment;
 import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
+import com.zenika.meetingplanner.adapters.outbound.jpa.mappers.JpaDomainMapper;
 import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingTypeRepository;
 import com.zenika.meetingplanner.domain.MeetingType;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.mockito.Spy;
 
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,14 +23,13 @@ class MeetingTypeRepositoryAdapterTest {
     @Mock
     private JpaMeetingTypeRepository jpaMeetingTypeRepository;
 
-    @Mock
-    private ModelMapper modelMapper;
+    @Spy
+    private JpaDomainMapper mapper;
 
     @InjectMocks
     private MeetingTypeRepositoryAdapter meetingTypeRepositoryAdapter;
 
     private JpaMeetingType jpaMeetingType;
-    private MeetingType meetingType;
 
     @BeforeEach
     void setUp() {
@@ -38,15 +39,13 @@ class MeetingTypeRepositoryAdapterTest {
         jpaMeetingType = new JpaMeetingType();
         jpaMeetingType.setName("SPEC");
         jpaMeetingType.setMinimumCapacity(5);
-
-        meetingType = new MeetingType("SPEC", 5, new ArrayList<>());
+        jpaMeetingType.setRequiredEquipment(List.of(JpaEquipment.builder().name("Projector").build()));
     }
 
     @Test
     void testFindByName_ShouldReturnMeetingType_WhenMeetingTypeFound() {
         // Arrange
         when(jpaMeetingTypeRepository.findByName("SPEC")).thenReturn(Optional.of(jpaMeetingType));
-        when(modelMapper.map(jpaMeetingType, MeetingType.class)).thenReturn(meetingType);
 
         // Act
         Optional<MeetingType> result = meetingTypeRepositoryAdapter.findByName("SPEC");
@@ -55,10 +54,11 @@ class MeetingTypeRepositoryAdapterTest {
         assertTrue(result.isPresent());
         assertEquals("SPEC", result.get().getName());
         assertEquals(5, result.get().getMinimumCapacity());
+        assertEquals("Projector", result.get().getRequiredEquipment().get(0).getName());
 
         // Verify interactions
         verify(jpaMeetingTypeRepository, times(1)).findByName("SPEC");
-        verify(modelMapper, times(1)).map(jpaMeetingType, MeetingType.class);
+        verify(mapper, times(1)).toDomain(jpaMeetingType);
     }
 
     @Test
@@ -74,7 +74,7 @@ class MeetingTypeRepositoryAdapterTest {
 
         // Verify interaction
         verify(jpaMeetingTypeRepository, times(1)).findByName("SPEC");
-        verifyNoInteractions(modelMapper);
+        verifyNoInteractions(mapper);
     }
 
 }
@@ -0,0 +1,132 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa;
+
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaEquipment;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaEquipmentRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingTypeRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaRoomRepository;
+import com.zenika.meetingplanner.application.services.CatalogSnapshot;
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RoomRepositoryAdapterIntegrationTest {
+
+    private static final LocalDate MEETING_DATE = LocalDate.of(2099, 12, 1);
+
+    @Value("${meetingplanner.booking.buffer-minutes}")
+    private int bufferMinutes;
+
+    @Autowired
+    private RoomRepositoryAdapter roomRepositoryAdapter;
+
+    @Autowired
+    private JpaRoomRepository roomRepository;
+
+    @Autowired
+    private JpaMeetingTypeRepository meetingTypeRepository;
+
+    @Autowired
+    private JpaEquipmentRepository equipmentRepository;
+
+    private MeetingType meetingType;
+
+    @BeforeAll
+    void setUpDatabase() {
+        // Clear and populate the test database
+        roomRepository.deleteAll();
+        meetingTypeRepository.deleteAll();
+        equipmentRepository.deleteAll();
+
+        JpaEquipment projector = equipmentRepository.save(JpaEquipment.builder().name("Projector").build());
+        JpaEquipment whiteboard = equipmentRepository.save(JpaEquipment.builder().name("Whiteboard").build());
+        JpaEquipment screen = equipmentRepository.save(JpaEquipment.builder().name("Screen").build());
+
+        JpaMeetingType jpaMeetingType = meetingTypeRepository.save(JpaMeetingType.builder()
+                .name("SPEC")
+                .minimumCapacity(5)
+                .requiredEquipment(List.of(projector))
+                .build());
+        meetingType = MeetingType.builder()
+                .name("SPEC")
+                .minimumCapacity(5)
+                .requiredEquipment(List.of(new Equipment("Projector")))
+                .build();
+
+        // Twin rooms share a score (capacity + 3 x equipment count), so ties must be broken the same way by both paths
+        JpaRoom smallRoom = saveRoom("Small Room", 10, List.of(projector));
+        JpaRoom smallTwinRoom = saveRoom("Small Twin Room", 10, List.of(projector));
+        JpaRoom mediumRoom = saveRoom("Medium Room", 20, List.of(projector, whiteboard));
+        saveRoom("Whiteboard Room", 12, List.of(whiteboard));
+        saveRoom("Large Room", 30, List.of(projector, whiteboard, screen));
+        saveRoom("Tiny Room", 4, List.of(projector));
+
+        book(smallRoom, jpaMeetingType, 10, 60);
+        book(smallTwinRoom, jpaMeetingType, 16, 90);
+        book(mediumRoom, jpaMeetingType, 14, 60);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"5, 10, 60", "5, 12, 60", "8, 12, 60", "8, 13, 60", "5, 9, 60", "25, 10, 60", "3, 18, 60",
+            "5, 13, 120", "5, 8, 90", "5, 19, 60", "5, 14, 30"})
+    void testFindBestRoom_ShouldMatchInMemorySelection(int participantCount, int hour, int durationMinutes) {
+        // In-memory reference, as run by the booking path: the catalog candidates, the best first
+        List<Room> rooms = roomRepositoryAdapter.findAllRoomsWithReservationsOn(MEETING_DATE);
+        Optional<Room> expected = CatalogSnapshot.of(0, rooms, List.of(meetingType)).getCandidates(meetingType).stream()
+                .filter(room -> room.hasCapacity(participantCount)
+                        && room.isAvailableAt(MEETING_DATE, hour, durationMinutes, bufferMinutes))
+                .findFirst();
+
+        Optional<Room> actual = roomRepositoryAdapter.findBestRoom(meetingType, participantCount, MEETING_DATE, hour, durationMinutes);
+
+        assertEquals(expected.map(Room::getName), actual.map(Room::getName));
+    }
+
+    private JpaRoom saveRoom(String name, int capacity, List<JpaEquipment> equipments) {
+        return roomRepository.save(JpaRoom.builder()
+                .name(name)
+                .capacity(capacity)
+                .equipments(new ArrayList<>(equipments))
+                .reservations(new ArrayList<>())
+                .build());
+    }
+
+    private void book(JpaRoom room, JpaMeetingType meetingType, int hour, int durationMinutes) {
+        room.getReservations().add(JpaMeeting.builder()
+                .date(MEETING_DATE)
+                .hour(hour)
+                .durationMinutes(durationMinutes)
+                .participantCount(4)
+                .room(room)
+                .type(meetingType)
+                .build());
+        roomRepository.save(room);
+    }
+
+    @AfterAll
+    void tearDownDatabase() {
+        // Clean up database after tests
+        roomRepository.deleteAll();
+        meetingTypeRepository.deleteAll();
+        equipmentRepository.deleteAll();
+    }
+}
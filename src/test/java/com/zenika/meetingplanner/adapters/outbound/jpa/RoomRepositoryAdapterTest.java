@@ -1,17 +1,25 @@
 package com.zenika.meetingplanner.adapters.outbound.jpa;
 
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaEquipment;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeeting;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
 import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
+import com.zenika.meetingplanner.adapters.outbound.jpa.mappers.JpaDomainMapper;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingRepository;
 import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaRoomRepository;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.MeetingType;
 import com.zenika.meetingplanner.domain.Room;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.mockito.Spy;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,33 +30,30 @@ class RoomRepositoryAdapterTest {
     private JpaRoomRepository jpaRoomRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private JpaMeetingRepository jpaMeetingRepository;
+
+    @Spy
+    private JpaDomainMapper mapper;
 
-    @InjectMocks
     private RoomRepositoryAdapter roomRepositoryAdapter;
 
     private JpaRoom jpaRoom;
-    private Room room;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        roomRepositoryAdapter = new RoomRepositoryAdapter(jpaRoomRepository, jpaMeetingRepository, mapper, DaySchedule.DEFAULT_BUFFER_MINUTES);
 
         // Initialize test data
         jpaRoom = new JpaRoom();
         jpaRoom.setName("Conference Room A");
         jpaRoom.setCapacity(20);
-
-        room = Room.builder()
-                .name("Conference Room A")
-                .capacity(20).build();
     }
 
     @Test
     void testFindAllRooms_ShouldReturnMappedRooms() {
         // Arrange
         when(jpaRoomRepository.findAll()).thenReturn(Collections.singletonList(jpaRoom));
-        when(modelMapper.map(jpaRoom, Room.class)).thenReturn(room);
 
         // Act
         List<Room> rooms = roomRepositoryAdapter.findAllRooms();
@@ -61,7 +66,7 @@ class RoomRepositoryAdapterTest {
 
         // Verify interactions
         verify(jpaRoomRepository, times(1)).findAll();
-        verify(modelMapper, times(1)).map(jpaRoom, Room.class);
+        verify(mapper, times(1)).toDomain(jpaRoom, null);
     }
 
     @Test
@@ -78,7 +83,59 @@ class RoomRepositoryAdapterTest {
 
         // Verify interaction
         verify(jpaRoomRepository, times(1)).findAll();
-        verifyNoInteractions(modelMapper);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void testFindAllRoomsWithReservationsOn_ShouldAttachOnlyMeetingsOfTheDate() {
+        // Arrange
+        LocalDate date = LocalDate.of(2024, 12, 1);
+        jpaRoom.setId(1L);
+        jpaRoom.setEquipments(List.of(JpaEquipment.builder().name("Projector").build()));
+        JpaMeeting jpaMeeting = JpaMeeting.builder()
+                .date(date)
+                .hour(10)
+                .durationMinutes(60)
+                .participantCount(8)
+                .type(JpaMeetingType.builder().name("SPEC").minimumCapacity(5).build())
+                .room(jpaRoom)
+                .build();
+        when(jpaRoomRepository.findAllWithEquipments()).thenReturn(List.of(jpaRoom));
+        when(jpaMeetingRepository.findAllWithTypeByDate(date)).thenReturn(List.of(jpaMeeting));
+
+        // Act
+        List<Room> rooms = roomRepositoryAdapter.findAllRoomsWithReservationsOn(date);
+
+        // Assert
+        assertEquals(1, rooms.size());
+        Room mappedRoom = rooms.get(0);
+        assertEquals(1L, mappedRoom.getId());
+        assertEquals("Projector", mappedRoom.getEquipments().get(0).getName());
+        assertEquals(1, mappedRoom.getReservations().size());
+        assertEquals("SPEC", mappedRoom.getReservations().get(0).getType().getName());
+        assertFalse(mappedRoom.isAvailableAt(date, 10, 60, DaySchedule.DEFAULT_BUFFER_MINUTES));
+        assertTrue(mappedRoom.isAvailableAt(date.plusDays(1), 10, 60, DaySchedule.DEFAULT_BUFFER_MINUTES));
+
+        // Verify interactions
+        verify(jpaRoomRepository, never()).findAll();
     }
 
+    @Test
+    void testFindBestRoom_ShouldMapRoomSelectedByQuery() {
+        // Arrange
+        LocalDate date = LocalDate.of(2024, 12, 1);
+        jpaRoom.setId(1L);
+        jpaRoom.setEquipments(List.of(JpaEquipment.builder().name("Projector").build()));
+        MeetingType meetingType = MeetingType.builder().name("SPEC").minimumCapacity(5).build();
+        when(jpaRoomRepository.findBestRoom("SPEC", 8, date, 10, 90, DaySchedule.DEFAULT_BUFFER_MINUTES)).thenReturn(Optional.of(jpaRoom));
+
+        // Act
+        Optional<Room> bestRoom = roomRepositoryAdapter.findBestRoom(meetingType, 8, date, 10, 90);
+
+        // Assert
+        assertTrue(bestRoom.isPresent());
+        assertEquals("Conference Room A", bestRoom.get().getName());
+        assertEquals("Projector", bestRoom.get().getEquipments().get(0).getName());
+        assertTrue(bestRoom.get().getReservations().isEmpty());
+    }
 }
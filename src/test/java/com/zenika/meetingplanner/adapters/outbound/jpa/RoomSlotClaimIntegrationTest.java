@@ -0,0 +1,130 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa;
+
+import com.zenika.meetingplanner.MeetingplannerApplication;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaEquipment;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaMeetingType;
+import com.zenika.meetingplanner.adapters.outbound.jpa.entities.JpaRoom;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaEquipmentRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaMeetingTypeRepository;
+import com.zenika.meetingplanner.adapters.outbound.jpa.repositories.JpaRoomRepository;
+import com.zenika.meetingplanner.application.usecases.AssignMeetingToBestRoomUseCase;
+import com.zenika.meetingplanner.common.dtos.MeetingRequestDto;
+import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs several application contexts against the same database, as several containers would,
+ * and checks that the room slot claims prevent double bookings that no in-memory lock can see.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RoomSlotClaimIntegrationTest {
+
+    private static final int INSTANCE_COUNT = 3;
+    private static final LocalDate MEETING_DATE = LocalDate.of(2099, 12, 3);
+
+    private final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+    @BeforeAll
+    void startInstances() {
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            instances.add(new SpringApplicationBuilder(MeetingplannerApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.jpa.hibernate.ddl-auto=update", "--spring.jpa.show-sql=false"));
+        }
+
+        // Clear and populate the shared database through the first instance
+        ConfigurableApplicationContext instance = instances.get(0);
+        JpaRoomRepository roomRepository = instance.getBean(JpaRoomRepository.class);
+        JpaMeetingTypeRepository meetingTypeRepository = instance.getBean(JpaMeetingTypeRepository.class);
+        JpaEquipmentRepository equipmentRepository = instance.getBean(JpaEquipmentRepository.class);
+        roomRepository.deleteAll();
+        meetingTypeRepository.deleteAll();
+        equipmentRepository.deleteAll();
+
+        JpaEquipment screen = equipmentRepository.save(JpaEquipment.builder().name("Screen").build());
+        meetingTypeRepository.save(JpaMeetingType.builder()
+                .name("VC")
+                .minimumCapacity(3)
+                .requiredEquipment(List.of(screen))
+                .build());
+        for (int i = 1; i <= 3; i++) {
+            roomRepository.save(JpaRoom.builder()
+                    .name("Room " + i)
+                    .capacity(10 * i)
+                    .equipments(new ArrayList<>(List.of(screen)))
+                    .reservations(new ArrayList<>())
+                    .build());
+        }
+    }
+
+    @Test
+    void testConcurrentAssignmentsAcrossInstances_ShouldNeverDoubleBookARoom() throws Exception {
+        // Arrange: overlapping requests (10:00 and 11:00 share a cleaning hour) spread over every instance
+        int requestCount = 24;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            AssignMeetingToBestRoomUseCase useCase = instances.get(i % INSTANCE_COUNT).getBean(AssignMeetingToBestRoomUseCase.class);
+            MeetingRequestDto request = MeetingRequestDto.builder()
+                    .meetingType("VC")
+                    .participantCount(4)
+                    .meetingDate(MEETING_DATE.toString())
+                    .meetingHour(10 + i % 2)
+                    .build();
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return useCase.execute(request).getAssignedRoomName();
+                } catch (NoSuitableRoomException e) {
+                    return null;
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        List<String> assignedRooms = new ArrayList<>();
+        for (Future<String> future : futures) {
+            String assignedRoom = future.get(60, TimeUnit.SECONDS);
+            if (assignedRoom != null) {
+                assignedRooms.add(assignedRoom);
+            }
+        }
+        executor.shutdown();
+
+        // Assert: each room holds exactly one of the overlapping meetings
+        assertEquals(3, assignedRooms.size());
+        assertEquals(3, new HashSet<>(assignedRooms).size());
+        List<JpaMeetingRepository.RoomHour> savedMeetings = instances.get(0).getBean(JpaMeetingRepository.class)
+                .findRoomHoursByDate(MEETING_DATE);
+        assertEquals(3, savedMeetings.size());
+        assertEquals(3, savedMeetings.stream().map(JpaMeetingRepository.RoomHour::getRoomId).distinct().count());
+    }
+
+    @AfterAll
+    void stopInstances() {
+        if (!instances.isEmpty()) {
+            ConfigurableApplicationContext instance = instances.get(0);
+            instance.getBean(JpaRoomRepository.class).deleteAll();
+            instance.getBean(JpaMeetingTypeRepository.class).deleteAll();
+            instance.getBean(JpaEquipmentRepository.class).deleteAll();
+        }
+        instances.forEach(ConfigurableApplicationContext::close);
+    }
+}
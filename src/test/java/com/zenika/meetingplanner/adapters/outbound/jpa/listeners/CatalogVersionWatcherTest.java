@@ -0,0 +1,55 @@
+package com.zenika.meetingplanner.adapters.outbound.jpa.listeners;
+
+import com.zenika.meetingplanner.application.events.CatalogChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CatalogVersionWatcherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogVersionWatcher catalogVersionWatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        catalogVersionWatcher = new CatalogVersionWatcher(jdbcTemplate, eventPublisher);
+    }
+
+    @Test
+    void testPoll_ShouldPublishChange_OnlyWhenVersionMoved() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(3L, 3L, 4L);
+
+        // Act
+        catalogVersionWatcher.poll();
+        catalogVersionWatcher.poll();
+        verify(eventPublisher, never()).publishEvent(any());
+        catalogVersionWatcher.poll();
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(new CatalogChangedEvent("catalog_version"));
+    }
+
+    @Test
+    void testIncrement_ShouldUpdateTheVersionRow() {
+        // Act
+        catalogVersionWatcher.increment();
+
+        // Assert
+        verify(jdbcTemplate).update("update catalog_version set version = version + 1 where id = 1");
+    }
+}
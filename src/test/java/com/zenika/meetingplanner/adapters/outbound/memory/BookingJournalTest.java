@@ -0,0 +1,106 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingJournalTest {
+
+    private static final LocalDate MEETING_DATE = LocalDate.of(2024, 12, 1);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testOpen_ShouldReplayDurableRecords() throws IOException {
+        // Arrange
+        Path path = directory.resolve("bookings.journal");
+        try (BookingJournal journal = BookingJournal.open(path, 4096, Duration.ofMillis(1), record -> { })) {
+            journal.append(record(1L, 9));
+            journal.awaitDurable(journal.append(record(2L, 14)));
+        }
+
+        // Act
+        List<JournalRecord> replayed = new ArrayList<>();
+        BookingJournal.open(path, 4096, Duration.ofMillis(1), replayed::add).close();
+
+        // Assert
+        assertEquals(List.of(record(1L, 9), record(2L, 14)), replayed);
+    }
+
+    @Test
+    void testOpen_ShouldDropTornRecordAndEverythingAfterIt() throws IOException {
+        // Arrange: three records, the second one torn by a crash
+        Path path = directory.resolve("bookings.journal");
+        try (BookingJournal journal = BookingJournal.open(path, 4096, Duration.ofMillis(1), record -> { })) {
+            journal.append(record(1L, 9));
+            journal.append(record(2L, 11));
+            journal.awaitDurable(journal.append(record(3L, 13)));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), BookingJournal.RECORD_SIZE + 10);
+        }
+
+        // Act: recover, then append after the last valid record and recover again
+        List<JournalRecord> firstRecovery = new ArrayList<>();
+        try (BookingJournal journal = BookingJournal.open(path, 4096, Duration.ofMillis(1), firstRecovery::add)) {
+            journal.awaitDurable(journal.append(record(4L, 16)));
+        }
+        List<JournalRecord> secondRecovery = new ArrayList<>();
+        BookingJournal.open(path, 4096, Duration.ofMillis(1), secondRecovery::add).close();
+
+        // Assert: the third record, written after the torn one, never comes back
+        assertEquals(List.of(record(1L, 9)), firstRecovery);
+        assertEquals(List.of(record(1L, 9), record(4L, 16)), secondRecovery);
+    }
+
+    @Test
+    void testAppend_ShouldGrowTheMappingAndShareFsyncsBetweenThreads() throws Exception {
+        // Arrange
+        Path path = directory.resolve("bookings.journal");
+        int threads = 8;
+        int recordsPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        try (BookingJournal journal = BookingJournal.open(path, BookingJournal.RECORD_SIZE, Duration.ofMillis(1), record -> { })) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long roomId = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        journal.awaitDurable(journal.append(record(roomId, 8 + i % 12)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        List<JournalRecord> replayed = new ArrayList<>();
+        BookingJournal.open(path, BookingJournal.RECORD_SIZE, Duration.ofMillis(1), replayed::add).close();
+
+        // Assert
+        assertEquals(threads * recordsPerThread, replayed.size());
+    }
+
+    private static JournalRecord record(long roomId, int hour) {
+        return new JournalRecord(roomId, 2L, MEETING_DATE, hour, 60, 6);
+    }
+}
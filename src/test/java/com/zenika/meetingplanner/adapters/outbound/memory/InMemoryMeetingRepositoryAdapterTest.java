@@ -0,0 +1,138 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class InMemoryMeetingRepositoryAdapterTest {
+
+    private static final LocalDate MEETING_DATE = LocalDate.of(2024, 12, 1);
+
+    @TempDir
+    private Path directory;
+
+    private InMemoryCatalog catalog;
+    private Path journalPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        catalog = new InMemoryCatalog(new ClassPathResource("in-memory-catalog.json"), new ObjectMapper());
+        journalPath = directory.resolve("bookings.journal");
+    }
+
+    @Test
+    void testSave_ShouldRejectOverlappingMeeting() throws IOException {
+        // Arrange
+        InMemoryMeetingRepositoryAdapter adapter = new InMemoryMeetingRepositoryAdapter(catalog, journalPath, Duration.ofMillis(1), DaySchedule.DEFAULT_BUFFER_MINUTES);
+        adapter.save(meeting("E1001", 10));
+
+        // Act & Assert: 11h is the cleaning hour of the 10h meeting
+        assertThrows(RoomSlotTakenException.class, () -> adapter.save(meeting("E1001", 11)));
+        assertDoesNotThrow(() -> adapter.save(meeting("E1001", 12)));
+        assertEquals(2, adapter.findAllByDate(MEETING_DATE).size());
+        adapter.destroy();
+    }
+
+    @Test
+    void testSaveAll_ShouldSaveNothing_WhenOneMeetingOverlaps() throws IOException {
+        // Arrange
+        InMemoryMeetingRepositoryAdapter adapter = new InMemoryMeetingRepositoryAdapter(catalog, journalPath, Duration.ofMillis(1), DaySchedule.DEFAULT_BUFFER_MINUTES);
+        adapter.save(meeting("E1002", 14));
+
+        // Act & Assert
+        assertThrows(RoomSlotTakenException.class, () -> adapter.saveAll(List.of(meeting("E1001", 9), meeting("E1002", 15))));
+        assertDoesNotThrow(() -> adapter.save(meeting("E1001", 9)));
+        adapter.destroy();
+    }
+
+    @Test
+    void testSaveAll_ShouldReleaseTheClaims_WhenTheJournalAppendFails() throws IOException {
+        // Arrange
+        BookingJournal journal = mock(BookingJournal.class);
+        when(journal.append(any())).thenThrow(new IllegalStateException("The booking journal is closed.")).thenReturn(64L);
+        InMemoryMeetingRepositoryAdapter adapter;
+        try (MockedStatic<BookingJournal> opened = mockStatic(BookingJournal.class)) {
+            opened.when(() -> BookingJournal.open(any(), anyInt(), any(), any())).thenReturn(journal);
+            adapter = new InMemoryMeetingRepositoryAdapter(catalog, journalPath, Duration.ofMillis(1), DaySchedule.DEFAULT_BUFFER_MINUTES);
+        }
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> adapter.saveAll(List.of(meeting("E1001", 9), meeting("E1002", 15))));
+
+        // Assert
+        assertTrue(adapter.findAllByDate(MEETING_DATE).isEmpty());
+        assertDoesNotThrow(() -> adapter.save(meeting("E1001", 9)));
+        assertEquals(1, adapter.findAllByDate(MEETING_DATE).size());
+    }
+
+    @Test
+    void testSaveAll_ShouldReleaseTheClaims_WhenTheJournalFlushFails() throws IOException {
+        // Arrange
+        BookingJournal journal = mock(BookingJournal.class);
+        when(journal.append(any())).thenReturn(32L, 64L, 96L);
+        doThrow(new UncheckedIOException(new IOException("No space left on device"))).doNothing().when(journal).awaitDurable(anyLong());
+        InMemoryMeetingRepositoryAdapter adapter;
+        try (MockedStatic<BookingJournal> opened = mockStatic(BookingJournal.class)) {
+            opened.when(() -> BookingJournal.open(any(), anyInt(), any(), any())).thenReturn(journal);
+            adapter = new InMemoryMeetingRepositoryAdapter(catalog, journalPath, Duration.ofMillis(1), DaySchedule.DEFAULT_BUFFER_MINUTES);
+        }
+
+        // Act
+        assertThrows(UncheckedIOException.class, () -> adapter.saveAll(List.of(meeting("E1001", 9), meeting("E1002", 15))));
+
+        // Assert
+        assertTrue(adapter.findAllByDate(MEETING_DATE).isEmpty());
+        assertDoesNotThrow(() -> adapter.save(meeting("E1001", 9)));
+        assertEquals(1, adapter.findAllByDate(MEETING_DATE).size());
+    }
+
+    @Test
+    void testRecovery_ShouldRestoreMeetingsAndClaimsFromTheJournal() throws IOException {
+        // Arrange: save, then drop the adapter as a crash would, without closing it
+        InMemoryMeetingRepositoryAdapter adapter = new InMemoryMeetingRepositoryAdapter(catalog, journalPath, Duration.ofMillis(1), DaySchedule.DEFAULT_BUFFER_MINUTES);
+        adapter.save(meeting("E1001", 10));
+        Meeting longMeeting = meeting("E2002", 16);
+        longMeeting.setDurationMinutes(90);
+        adapter.save(longMeeting);
+
+        // Act
+        InMemoryMeetingRepositoryAdapter recovered = new InMemoryMeetingRepositoryAdapter(catalog, journalPath, Duration.ofMillis(1), DaySchedule.DEFAULT_BUFFER_MINUTES);
+
+        // Assert
+        List<Meeting> meetings = recovered.findAllByDate(MEETING_DATE);
+        assertEquals(List.of("E1001", "E2002"), meetings.stream().map(meeting -> meeting.getRoom().getName()).toList());
+        assertEquals("SPEC", meetings.get(0).getType().getName());
+        assertEquals(90, meetings.get(1).getDurationMinutes());
+        assertThrows(RoomSlotTakenException.class, () -> recovered.save(meeting("E1001", 9)));
+        assertThrows(RoomSlotTakenException.class, () -> recovered.save(meeting("E2002", 18))); // Cleaned until 18:30
+        adapter.destroy();
+        recovered.destroy();
+    }
+
+    private Meeting meeting(String roomName, int hour) {
+        Room room = catalog.getRooms().stream().filter(r -> r.getName().equals(roomName)).findFirst().orElseThrow();
+        MeetingType meetingType = catalog.findMeetingType("SPEC").orElseThrow();
+        return Meeting.builder().date(MEETING_DATE).hour(hour).participantCount(4).type(meetingType).room(room).build();
+    }
+}
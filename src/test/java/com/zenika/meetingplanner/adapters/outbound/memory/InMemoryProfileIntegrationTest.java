@@ -0,0 +1,51 @@
+package com.zenika.meetingplanner.adapters.outbound.memory;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+class InMemoryProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void journalPath(DynamicPropertyRegistry registry) throws IOException {
+        String journalPath = Files.createTempDirectory("journal").resolve("bookings.journal").toString();
+        registry.add("meetingplanner.in-memory.journal-path", () -> journalPath);
+    }
+
+    @Test
+    void testAssignMeetingToBestRoom_ShouldBookWithoutDatabase() throws Exception {
+        String request = """
+                {
+                    "meetingType": "RS",
+                    "requiredCapacity": 2,
+                    "meetingDate": "2099-12-01",
+                    "meetingHour": 10
+                }
+                """;
+
+        mockMvc.perform(post("/api/meetings/assign-to-best-room")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meetingType").value("RS"))
+                .andExpect(jsonPath("$.meetingHour").value(10));
+    }
+}
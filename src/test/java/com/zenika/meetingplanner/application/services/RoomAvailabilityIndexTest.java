@@ -0,0 +1,241 @@
+package com.zenika.meetingplanner.application.services;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.HourSlots;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.Room;
+import com.zenika.meetingplanner.domain.TimeWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoomAvailabilityIndexTest {
+
+    private static final LocalDate MEETING_DATE = LocalDate.of(2024, 12, 1);
+
+    @Mock
+    private MeetingRepositoryPort meetingRepository;
+
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        roomAvailabilityIndex = new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES);
+
+        room = Room.builder().id(1L).build();
+        when(meetingRepository.findAllByDate(MEETING_DATE)).thenReturn(List.of(
+                Meeting.builder().date(MEETING_DATE).hour(10).room(room).build()
+        ));
+    }
+
+    @Test
+    void testIsAvailableAt_ShouldApplyCleaningHourAroundBookings() {
+        assertFalse(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 9));
+        assertFalse(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 10));
+        assertFalse(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 11));
+        assertTrue(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 12));
+        assertTrue(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 2L, 10));
+    }
+
+    @Test
+    void testIsAvailableAt_ShouldLoadEachDateOnlyOnce() {
+        roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 12);
+        roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 2L, 14);
+
+        verify(meetingRepository, times(1)).findAllByDate(MEETING_DATE);
+    }
+
+    @Test
+    void testTryReserve_ShouldBookHourOnce() {
+        assertTrue(roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 14));
+        assertFalse(roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 14));
+        assertFalse(roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 15));
+
+        assertEquals(List.of(8, 12, 16, 17, 18, 19), roomAvailabilityIndex.findAvailableHoursOnDate(MEETING_DATE, 1L));
+    }
+
+    @Test
+    void testTryReserve_WhenHourIsTakenInTheRepository_ShouldReturnFalse() {
+        assertFalse(roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 11));
+        assertTrue(roomAvailabilityIndex.tryReserve(MEETING_DATE, 2L, 11));
+    }
+
+    @Test
+    void testTryReserve_ShouldKeepTheBufferAroundLongMeetings() {
+        assertTrue(roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 13, 150));
+
+        assertFalse(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 16)); // 13:00-15:30, cleaned until 16:30
+        assertTrue(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 17));
+        assertFalse(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 12, 30)); // Would end at 12:30, too close to 13:00
+        assertEquals(List.of(new TimeWindow(8 * 60, 9 * 60), new TimeWindow(16 * 60 + 30, 20 * 60)),
+                roomAvailabilityIndex.findFreeWindows(MEETING_DATE, 1L, 60));
+    }
+
+    @Test
+    void testTryReserve_WithoutBuffer_ShouldAllowBackToBackMeetings() {
+        RoomAvailabilityIndex withoutBuffer = new RoomAvailabilityIndex(meetingRepository, 0);
+
+        assertTrue(withoutBuffer.tryReserve(MEETING_DATE, 1L, 11, 120));
+        assertTrue(withoutBuffer.tryReserve(MEETING_DATE, 1L, 9, 60));
+        assertFalse(withoutBuffer.tryReserve(MEETING_DATE, 1L, 12, 30));
+
+        assertEquals(List.of(8, 13, 14, 15, 16, 17, 18, 19), withoutBuffer.findAvailableHoursOnDate(MEETING_DATE, 1L));
+    }
+
+    @Test
+    void testRelease_ShouldFreeReservedHour() {
+        roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 14);
+
+        roomAvailabilityIndex.release(MEETING_DATE, 1L, 14);
+
+        assertTrue(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 14));
+        assertFalse(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 10));
+    }
+
+    @Test
+    void testRefresh_ShouldAddBookingsOfOtherInstancesAndKeepLocalReservations() {
+        // Arrange
+        assertTrue(roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 14));
+        when(meetingRepository.findAllByDate(MEETING_DATE)).thenReturn(List.of(
+                Meeting.builder().date(MEETING_DATE).hour(10).room(room).build(),
+                Meeting.builder().date(MEETING_DATE).hour(17).room(room).build()
+        ));
+
+        // Act
+        roomAvailabilityIndex.refresh(MEETING_DATE);
+
+        // Assert
+        assertEquals(List.of(8, 12, 19), roomAvailabilityIndex.findAvailableHoursOnDate(MEETING_DATE, 1L));
+    }
+
+    @Test
+    void testRelease_AfterRefreshReadAnOverlappingMeeting_ShouldOnlyFreeTheReservation() {
+        // Arrange: another instance saved a 13h-15h meeting while this one reserved 14h-16h
+        assertTrue(roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 14, 120));
+        when(meetingRepository.findAllByDate(MEETING_DATE)).thenReturn(List.of(
+                Meeting.builder().date(MEETING_DATE).hour(10).room(room).build(),
+                Meeting.builder().date(MEETING_DATE).hour(13).durationMinutes(120).room(room).build()
+        ));
+        roomAvailabilityIndex.refresh(MEETING_DATE);
+
+        // Act
+        roomAvailabilityIndex.release(MEETING_DATE, 1L, 14, 120);
+
+        // Assert
+        assertEquals(List.of(new TimeWindow(600, 660), new TimeWindow(780, 900)),
+                roomAvailabilityIndex.getSchedule(MEETING_DATE, 1L).bookedIntervals());
+    }
+
+    @Test
+    void testRefresh_ShouldFreeMeetingsNoLongerInTheRepository() {
+        // Arrange
+        assertTrue(roomAvailabilityIndex.tryReserve(MEETING_DATE, 1L, 14));
+        when(meetingRepository.findAllByDate(MEETING_DATE)).thenReturn(List.of(
+                Meeting.builder().date(MEETING_DATE).hour(14).room(room).build()
+        ));
+        roomAvailabilityIndex.refresh(MEETING_DATE);
+        when(meetingRepository.findAllByDate(MEETING_DATE)).thenReturn(List.of());
+
+        // Act
+        roomAvailabilityIndex.refresh(MEETING_DATE);
+
+        // Assert: the 10h meeting was deleted and the 14h reservation, once read back as saved, too
+        assertTrue(roomAvailabilityIndex.getSchedule(MEETING_DATE, 1L).bookedIntervals().isEmpty());
+    }
+
+    @Test
+    void testSchedules_ShouldBeReadAgainOnceOlderThanTheRefreshPeriod() {
+        // Arrange
+        RoomAvailabilityIndex alwaysRefreshed = new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES, 0, 600);
+        assertTrue(alwaysRefreshed.isAvailableAt(MEETING_DATE, 2L, 10));
+
+        // Act
+        when(meetingRepository.findAllByDate(MEETING_DATE)).thenReturn(List.of(
+                Meeting.builder().date(MEETING_DATE).hour(10).room(Room.builder().id(2L).build()).build()
+        ));
+
+        // Assert
+        assertFalse(alwaysRefreshed.isAvailableAt(MEETING_DATE, 2L, 10));
+        verify(meetingRepository, times(2)).findAllByDate(MEETING_DATE);
+    }
+
+    @Test
+    void testEvict_ShouldDropPastAndIdleDates() {
+        // Arrange
+        RoomAvailabilityIndex withoutIdleTime = new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES, 30, 0);
+        roomAvailabilityIndex.preload(MEETING_DATE);
+        roomAvailabilityIndex.preload(MEETING_DATE.plusDays(1));
+        withoutIdleTime.preload(MEETING_DATE.plusDays(1));
+
+        // Act
+        int evicted = roomAvailabilityIndex.evict(MEETING_DATE.plusDays(1));
+
+        // Assert
+        assertEquals(1, evicted);
+        assertEquals(1, roomAvailabilityIndex.loadedDateCount());
+        assertEquals(1, withoutIdleTime.evict(MEETING_DATE));
+        assertEquals(0, withoutIdleTime.loadedDateCount());
+    }
+
+    @Test
+    void testTryReserve_UnderContention_ShouldNeverBookOverlappingMeetings() throws Exception {
+        int threadCount = 16;
+        int attemptsPerThread = 2_000;
+        LocalDate date = LocalDate.of(2024, 12, 2);
+        AtomicInteger successCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        long roomId = ThreadLocalRandom.current().nextLong(1, 4);
+                        int hour = ThreadLocalRandom.current().nextInt(HourSlots.FIRST_HOUR, HourSlots.LAST_HOUR);
+                        int durationMinutes = 30 * ThreadLocalRandom.current().nextInt(1, 7);
+                        if (roomAvailabilityIndex.tryReserve(date, roomId, hour, durationMinutes)) {
+                            successCount.incrementAndGet();
+                            if (ThreadLocalRandom.current().nextInt(4) == 0) {
+                                roomAvailabilityIndex.release(date, roomId, hour, durationMinutes);
+                                successCount.decrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int bookedCount = 0;
+        for (long roomId = 1; roomId < 4; roomId++) {
+            List<TimeWindow> intervals = roomAvailabilityIndex.getSchedule(date, roomId).bookedIntervals();
+            for (int i = 1; i < intervals.size(); i++) {
+                assertTrue(intervals.get(i).startMinute() >= intervals.get(i - 1).endMinute() + 60,
+                        "Meetings closer than the buffer in room " + roomId);
+            }
+            bookedCount += intervals.size();
+        }
+        assertEquals(successCount.get(), bookedCount);
+    }
+}
@@ -0,0 +1,116 @@
+package com.zenika.meetingplanner.application.services;
+
+import com.zenika.meetingplanner.application.events.CatalogChangedEvent;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoomCatalogTest {
+
+    @Mock
+    private RoomRepositoryPort roomRepository;
+
+    @Mock
+    private MeetingTypeRepositoryPort meetingTypeRepository;
+
+    private RoomCatalog roomCatalog;
+
+    private MeetingType meetingType;
+    private Room largeRoom;
+    private Room smallRoom;
+    private Room roomWithoutScreen;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        roomCatalog = new RoomCatalog(roomRepository, meetingTypeRepository);
+
+        meetingType = MeetingType.builder()
+                .name("VC")
+                .minimumCapacity(3)
+                .requiredEquipment(List.of(new Equipment("Screen")))
+                .build();
+        largeRoom = Room.builder().id(1L).name("E1001").capacity(23).equipments(List.of(new Equipment("Screen"))).build();
+        smallRoom = Room.builder().id(2L).name("E1002").capacity(10).equipments(List.of(new Equipment("Screen"))).build();
+        roomWithoutScreen = Room.builder().id(3L).name("E1003").capacity(8).equipments(List.of()).build();
+
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of(largeRoom, smallRoom, roomWithoutScreen));
+        when(meetingTypeRepository.findAll()).thenReturn(List.of(meetingType));
+    }
+
+    @Test
+    void testGetCandidates_ShouldReturnSuitableRoomsSortedBySuitability() {
+        // Act
+        List<Room> candidates = roomCatalog.getCandidates(meetingType);
+
+        // Assert
+        assertEquals(List.of(smallRoom, largeRoom), candidates);
+    }
+
+    @Test
+    void testGetCandidates_ShouldLoadCatalogOnlyOnce() {
+        // Act
+        roomCatalog.getCandidates(meetingType);
+        roomCatalog.getCandidates(MeetingType.builder().name("RS").minimumCapacity(1).requiredEquipment(List.of()).build());
+
+        // Assert
+        verify(roomRepository, times(1)).findAllRoomsWithEquipments();
+        verify(meetingTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testOnCatalogChanged_ShouldSwapInRebuiltSnapshot() {
+        // Arrange
+        CatalogSnapshot previous = roomCatalog.getSnapshot();
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of(largeRoom));
+
+        // Act
+        roomCatalog.onCatalogChanged(new CatalogChangedEvent("rooms"));
+        List<Room> candidates = roomCatalog.getCandidates(meetingType);
+
+        // Assert
+        assertEquals(List.of(largeRoom), candidates);
+        assertEquals(List.of(smallRoom, largeRoom), previous.getCandidates(meetingType));
+        assertEquals(previous.getVersion() + 1, roomCatalog.getSnapshot().getVersion());
+        verify(roomRepository, times(2)).findAllRoomsWithEquipments();
+    }
+
+    @Test
+    void testOnCatalogChanged_ShouldKeepPreviousSnapshot_WhenRebuildFails() {
+        // Arrange
+        CatalogSnapshot previous = roomCatalog.getSnapshot();
+        when(roomRepository.findAllRoomsWithEquipments()).thenThrow(new IllegalStateException("database down"));
+
+        // Act
+        roomCatalog.onCatalogChanged(new CatalogChangedEvent("rooms"));
+
+        // Assert
+        assertSame(previous, roomCatalog.getSnapshot());
+        assertEquals(List.of(smallRoom, largeRoom), roomCatalog.getCandidates(meetingType));
+    }
+
+    @Test
+    void testFindMeetingType_ShouldReadSnapshotAndFallBackToRepository() {
+        // Arrange
+        MeetingType added = MeetingType.builder().name("RS").minimumCapacity(1).requiredEquipment(List.of()).build();
+        when(meetingTypeRepository.findByName("RS")).thenReturn(Optional.of(added));
+
+        // Act & Assert
+        assertSame(meetingType, roomCatalog.findMeetingType("VC").orElseThrow());
+        assertSame(added, roomCatalog.findMeetingType("RS").orElseThrow());
+        assertEquals(Optional.of(largeRoom), roomCatalog.getSnapshot().findRoom("E1001"));
+        verify(meetingTypeRepository, never()).findByName("VC");
+    }
+}
@@ -0,0 +1,43 @@
+package com.zenika.meetingplanner.application.services;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StartupWarmUpTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 11, 1);
+
+    @Test
+    void testRun_ShouldBuildCatalogAndLoadComingDays() {
+        // Arrange
+        RoomRepositoryPort roomRepository = mock(RoomRepositoryPort.class);
+        MeetingTypeRepositoryPort meetingTypeRepository = mock(MeetingTypeRepositoryPort.class);
+        MeetingRepositoryPort meetingRepository = mock(MeetingRepositoryPort.class);
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of());
+        when(meetingTypeRepository.findAll()).thenReturn(List.of());
+        RoomCatalog roomCatalog = new RoomCatalog(roomRepository, meetingTypeRepository);
+        RoomAvailabilityIndex roomAvailabilityIndex = new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES);
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        // Act
+        new StartupWarmUp(roomCatalog, roomAvailabilityIndex, clock, 3).run(null);
+        roomCatalog.getSnapshot();
+        roomAvailabilityIndex.getSchedule(TODAY, 1L);
+
+        // Assert: later requests hit the warmed snapshot and index
+        verify(roomRepository, times(1)).findAllRoomsWithEquipments();
+        verify(meetingRepository, times(3)).findAllByDate(any(LocalDate.class));
+        verify(meetingRepository).findAllByDate(TODAY.plusDays(2));
+    }
+}
@@ -0,0 +1,73 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.JobLockPort;
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ArchivePastMeetingsUseCaseTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2024, 9, 3);
+
+    private MeetingRepositoryPort meetingRepository;
+    private JobLockPort jobLock;
+    private ArchivePastMeetingsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository = mock(MeetingRepositoryPort.class);
+        jobLock = mock(JobLockPort.class);
+        useCase = new ArchivePastMeetingsUseCase(meetingRepository, jobLock, new ArchivePolicy(Clock.systemUTC(), 90), 100, Duration.ofHours(1));
+    }
+
+    @Test
+    void testExecute_ShouldArchiveChunksUntilOneIsNotFull() {
+        // Arrange
+        when(jobLock.tryLock(ArchivePastMeetingsUseCase.LOCK_NAME, Duration.ofHours(1))).thenReturn(true);
+        when(meetingRepository.archiveBefore(CUTOFF, 100)).thenReturn(100, 100, 42);
+        when(meetingRepository.deleteSlotClaimsBefore(CUTOFF, 100)).thenReturn(100, 7);
+
+        // Act
+        int archived = useCase.execute(LocalDate.of(2024, 12, 2));
+
+        // Assert
+        assertEquals(242, archived);
+        verify(meetingRepository, times(3)).archiveBefore(CUTOFF, 100);
+        verify(meetingRepository, times(2)).deleteSlotClaimsBefore(CUTOFF, 100);
+        verify(jobLock).unlock(ArchivePastMeetingsUseCase.LOCK_NAME);
+    }
+
+    @Test
+    void testExecute_ShouldSkipTheRun_WhenAnotherInstanceHoldsTheLock() {
+        // Arrange
+        when(jobLock.tryLock(eq(ArchivePastMeetingsUseCase.LOCK_NAME), any())).thenReturn(false);
+
+        // Act
+        int archived = useCase.execute(LocalDate.of(2024, 12, 2));
+
+        // Assert
+        assertEquals(0, archived);
+        verifyNoInteractions(meetingRepository);
+        verify(jobLock, never()).unlock(anyString());
+    }
+
+    @Test
+    void testExecute_ShouldReleaseTheLock_WhenArchivingFails() {
+        // Arrange
+        when(jobLock.tryLock(eq(ArchivePastMeetingsUseCase.LOCK_NAME), any())).thenReturn(true);
+        when(meetingRepository.archiveBefore(CUTOFF, 100)).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> useCase.execute(LocalDate.of(2024, 12, 2)));
+        verify(jobLock).unlock(ArchivePastMeetingsUseCase.LOCK_NAME);
+    }
+}
@@ -3,31 +3,45 @@ package com.zenika.meetingplanner.application.usecases;
 import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
 import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
 import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.application.services.RoomBookingService;
+import com.zenika.meetingplanner.common.dtos.AvailableSlotDto;
 import com.zenika.meetingplanner.common.dtos.MeetingRequestDto;
 import com.zenika.meetingplanner.common.dtos.MeetingResponseDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDateException;
 import com.zenika.meetingplanner.common.exceptions.InvalidMeetingHourException;
 import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDurationException;
 import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.DaySchedule;
 import com.zenika.meetingplanner.domain.Equipment;
 import com.zenika.meetingplanner.domain.Meeting;
 import com.zenika.meetingplanner.domain.MeetingType;
 import com.zenika.meetingplanner.domain.Room;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class AssignMeetingToBestRoomUseCaseTest {
 
-    @InjectMocks
+    private static final Clock CLOCK = Clock.fixed(LocalDate.of(2024, 11, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
     private AssignMeetingToBestRoomUseCase useCase;
 
     @Mock
@@ -47,6 +61,9 @@ class AssignMeetingToBestRoomUseCaseTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        RoomCatalog roomCatalog = new RoomCatalog(roomRepositoryPort, meetingTypeRepositoryPort);
+        useCase = new AssignMeetingToBestRoomUseCase(new RoomBookingService(roomCatalog,
+                new RoomAvailabilityIndex(meetingRepositoryPort, DaySchedule.DEFAULT_BUFFER_MINUTES), meetingRepositoryPort), roomCatalog, new ArchivePolicy(CLOCK, 90));
 
         // Mock MeetingType
         meetingType = MeetingType.builder()
@@ -57,6 +74,7 @@ class AssignMeetingToBestRoomUseCaseTest {
 
         // Mock Room
         room = Room.builder()
+                .id(1L)
                 .name("Conference Room A")
                 .capacity(12)
                 .equipments(List.of(new Equipment("Whiteboard")))
@@ -85,7 +103,7 @@ class AssignMeetingToBestRoomUseCaseTest {
     void testExecute_ShouldAssignMeetingToBestRoom() {
         // Arrange
         when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
-        when(roomRepositoryPort.findAllRooms()).thenReturn(List.of(room));
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of(room));
         when(meetingRepositoryPort.save(any(Meeting.class))).thenReturn(savedMeeting);
 
         // Act
@@ -101,7 +119,100 @@ class AssignMeetingToBestRoomUseCaseTest {
 
         // Verify interactions
         verify(meetingTypeRepositoryPort, times(1)).findByName("SPEC");
-        verify(roomRepositoryPort, times(1)).findAllRooms();
+        verify(roomRepositoryPort, times(1)).findAllRoomsWithEquipments();
+        verify(meetingRepositoryPort, times(1)).save(any(Meeting.class));
+    }
+
+    @Test
+    void testExecute_ShouldBookTheRequestedDuration() {
+        // Arrange
+        requestDto.setDurationMinutes(150);
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of(room));
+        when(meetingRepositoryPort.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        MeetingResponseDto response = useCase.execute(requestDto);
+
+        // Assert: 10:00-12:30 keeps the room busy until 13:30
+        assertEquals(150, response.getDurationMinutes());
+        requestDto.setDurationMinutes(null);
+        requestDto.setMeetingHour(13);
+        assertThrows(NoSuitableRoomException.class, () -> useCase.execute(requestDto));
+    }
+
+    @Test
+    void testExecute_ShouldThrowInvalidMeetingDurationException_WhenDurationIsOutOfRange() {
+        // Arrange
+        requestDto.setDurationMinutes(15);
+
+        // Act & Assert
+        assertThrows(InvalidMeetingDurationException.class, () -> useCase.execute(requestDto));
+        requestDto.setDurationMinutes(721);
+        assertThrows(InvalidMeetingDurationException.class, () -> useCase.execute(requestDto));
+    }
+
+    @Test
+    void testExecute_ShouldThrowInvalidMeetingDurationException_WhenMeetingEndsAfterEightPm() {
+        // Arrange: 19:00-20:30
+        requestDto.setMeetingHour(19);
+        requestDto.setDurationMinutes(90);
+
+        // Act & Assert
+        assertThrows(InvalidMeetingDurationException.class, () -> useCase.execute(requestDto));
+        verify(meetingRepositoryPort, never()).save(any(Meeting.class));
+    }
+
+    @Test
+    void testExecute_ShouldThrowInvalidMeetingDateException_WhenDateIsArchived() {
+        // Arrange: 90 days of retention before 2024-11-01
+        requestDto.setMeetingDate("2024-08-02");
+
+        // Act & Assert
+        assertThrows(InvalidMeetingDateException.class, () -> useCase.execute(requestDto));
+        verify(meetingRepositoryPort, never()).save(any(Meeting.class));
+    }
+
+    @Test
+    void testExecute_ShouldThrowNoSuitableRoomException_WhenRoomIsBookedAtAdjacentHour() {
+        // Arrange
+        Meeting existingMeeting = Meeting.builder()
+                .date(LocalDate.of(2024, 12, 1))
+                .hour(11)
+                .room(Room.builder().id(1L).build())
+                .build();
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of(room));
+        when(meetingRepositoryPort.findAllByDate(LocalDate.of(2024, 12, 1))).thenReturn(List.of(existingMeeting));
+        when(meetingRepositoryPort.findAllByDate(LocalDate.of(2024, 12, 2))).thenReturn(List.of());
+
+        // Act & Assert
+        NoSuitableRoomException exception = assertThrows(NoSuitableRoomException.class, () -> useCase.execute(requestDto));
+
+        // The nearest free hours of the room on the same day, then the same hour on the next day
+        List<AvailableSlotDto> alternatives = exception.getAlternatives();
+        assertEquals(List.of(9, 8, 13, 10), alternatives.stream().map(AvailableSlotDto::getHour).toList());
+        assertEquals("2024-12-01", alternatives.get(0).getDate());
+        assertEquals("2024-12-02", alternatives.get(3).getDate());
+        assertTrue(alternatives.stream().allMatch(slot -> "Conference Room A".equals(slot.getRoomName())));
+
+        // Verify interactions
+        verify(meetingRepositoryPort, never()).save(any(Meeting.class));
+    }
+
+    @Test
+    void testExecute_ShouldRecordBooking_SoTheSameSlotIsNotAssignedTwice() {
+        // Arrange
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of(room));
+        when(meetingRepositoryPort.save(any(Meeting.class))).thenReturn(savedMeeting);
+
+        // Act
+        useCase.execute(requestDto);
+
+        // Assert
+        assertThrows(NoSuitableRoomException.class, () -> useCase.execute(requestDto));
+        verify(meetingRepositoryPort, times(1)).findAllByDate(LocalDate.of(2024, 12, 1));
         verify(meetingRepositoryPort, times(1)).save(any(Meeting.class));
     }
 
@@ -118,7 +229,7 @@ class AssignMeetingToBestRoomUseCaseTest {
 
         // Verify interactions
         verify(meetingTypeRepositoryPort, times(1)).findByName("SPEC");
-        verify(roomRepositoryPort, never()).findAllRooms();
+        verify(meetingRepositoryPort, never()).findAllByDate(any(LocalDate.class));
         verify(meetingRepositoryPort, never()).save(any(Meeting.class));
     }
 
@@ -135,7 +246,7 @@ class AssignMeetingToBestRoomUseCaseTest {
 
         // Verify no interactions with repositories
         verify(meetingTypeRepositoryPort, never()).findByName(anyString());
-        verify(roomRepositoryPort, never()).findAllRooms();
+        verify(roomRepositoryPort, never()).findAllRoomsWithEquipments();
         verify(meetingRepositoryPort, never()).save(any(Meeting.class));
     }
 
@@ -143,17 +254,96 @@ class AssignMeetingToBestRoomUseCaseTest {
     void testExecute_ShouldThrowNoSuitableRoomException() {
         // Arrange
         when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
-        when(roomRepositoryPort.findAllRooms()).thenReturn(List.of()); // No rooms available
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of()); // No rooms available
 
         // Act & Assert
         NoSuitableRoomException exception = assertThrows(NoSuitableRoomException.class,
                 () -> useCase.execute(requestDto));
 
         assertEquals("No suitable room found for the given meeting type, capacity, and time.", exception.getMessage());
+        assertTrue(exception.getAlternatives().isEmpty());
 
         // Verify interactions
         verify(meetingTypeRepositoryPort, times(1)).findByName("SPEC");
-        verify(roomRepositoryPort, times(1)).findAllRooms();
+        verify(roomRepositoryPort, times(1)).findAllRoomsWithEquipments();
         verify(meetingRepositoryPort, never()).save(any(Meeting.class));
     }
+
+    @Test
+    void testExecute_ShouldReleaseReservedSlot_WhenSaveFails() {
+        // Arrange
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of(room));
+        when(meetingRepositoryPort.save(any(Meeting.class)))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(savedMeeting);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> useCase.execute(requestDto));
+        assertEquals("Conference Room A", useCase.execute(requestDto).getAssignedRoomName());
+    }
+
+    @Test
+    void testExecute_UnderConcurrentRequests_ShouldNeverDoubleBookARoom() throws Exception {
+        // Arrange
+        int roomCount = 5;
+        int threadCount = 64;
+        List<Room> rooms = new ArrayList<>();
+        for (long id = 1; id <= roomCount; id++) {
+            rooms.add(Room.builder().id(id).name("Room " + id).capacity(12)
+                    .equipments(List.of(new Equipment("Whiteboard"))).reservations(List.of()).build());
+        }
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(rooms);
+        when(meetingRepositoryPort.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return useCase.execute(requestDto).getAssignedRoomName();
+                } catch (NoSuitableRoomException e) {
+                    return null;
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        List<String> assignedRooms = new ArrayList<>();
+        for (Future<String> future : futures) {
+            String assignedRoom = future.get(30, TimeUnit.SECONDS);
+            if (assignedRoom != null) {
+                assignedRooms.add(assignedRoom);
+            }
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(roomCount, assignedRooms.size());
+        assertEquals(roomCount, new HashSet<>(assignedRooms).size());
+        verify(meetingRepositoryPort, times(roomCount)).save(any(Meeting.class));
+    }
+
+    @Test
+    void testExecute_ShouldMoveToNextRoom_WhenSlotWasTakenByAnotherInstance() {
+        // Arrange
+        Room otherRoom = Room.builder().id(2L).name("Conference Room B").capacity(20)
+                .equipments(List.of(new Equipment("Whiteboard"))).reservations(List.of()).build();
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of(room, otherRoom));
+        when(meetingRepositoryPort.save(any(Meeting.class)))
+                .thenThrow(new RoomSlotTakenException("The room slot was booked concurrently."))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        MeetingResponseDto response = useCase.execute(requestDto);
+
+        // Assert
+        assertEquals("Conference Room B", response.getAssignedRoomName());
+        verify(meetingRepositoryPort, times(2)).save(any(Meeting.class));
+    }
 }
@@ -0,0 +1,206 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.application.services.RoomBookingService;
+import com.zenika.meetingplanner.common.dtos.MeetingAssignmentResultDto;
+import com.zenika.meetingplanner.common.dtos.MeetingRequestDto;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AssignMeetingsInBatchUseCaseTest {
+
+    private static final Clock CLOCK = Clock.fixed(LocalDate.of(2024, 11, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private AssignMeetingsInBatchUseCase useCase;
+
+    @Mock
+    private RoomRepositoryPort roomRepositoryPort;
+
+    @Mock
+    private MeetingRepositoryPort meetingRepositoryPort;
+
+    @Mock
+    private MeetingTypeRepositoryPort meetingTypeRepositoryPort;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        RoomCatalog roomCatalog = new RoomCatalog(roomRepositoryPort, meetingTypeRepositoryPort);
+        useCase = new AssignMeetingsInBatchUseCase(new RoomBookingService(roomCatalog,
+                new RoomAvailabilityIndex(meetingRepositoryPort, DaySchedule.DEFAULT_BUFFER_MINUTES), meetingRepositoryPort), meetingRepositoryPort, roomCatalog, new ArchivePolicy(CLOCK, 90));
+
+        MeetingType meetingType = MeetingType.builder()
+                .id(1L)
+                .name("SPEC")
+                .minimumCapacity(5)
+                .requiredEquipment(List.of(new Equipment("Whiteboard")))
+                .build();
+        Room smallRoom = Room.builder().id(1L).name("E1001").capacity(12).equipments(List.of(new Equipment("Whiteboard"))).build();
+        Room largeRoom = Room.builder().id(2L).name("E1002").capacity(20).equipments(List.of(new Equipment("Whiteboard"))).build();
+
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of(largeRoom, smallRoom));
+    }
+
+    @Test
+    void testExecute_ShouldAccountForMeetingsAssignedEarlierInTheBatch() {
+        // Arrange
+        List<MeetingRequestDto> requests = List.of(request("SPEC", 10), request("SPEC", 10), request("SPEC", 11));
+
+        // Act
+        List<MeetingAssignmentResultDto> results = useCase.execute(requests);
+
+        // Assert
+        assertEquals("E1001", results.get(0).getMeeting().getAssignedRoomName());
+        assertEquals("E1002", results.get(1).getMeeting().getAssignedRoomName());
+        assertFalse(results.get(2).isAssigned());
+        assertEquals("No suitable room found for the given meeting type, capacity, and time.", results.get(2).getError());
+    }
+
+    @Test
+    void testExecute_ShouldReportFailuresPerItemAndSaveTheOthersOnce() {
+        // Arrange
+        when(meetingTypeRepositoryPort.findByName("UNKNOWN")).thenReturn(Optional.empty());
+        MeetingRequestDto invalidDate = request("SPEC", 14);
+        invalidDate.setMeetingDate("invalid-date");
+        List<MeetingRequestDto> requests = List.of(request("UNKNOWN", 10), request("SPEC", 22), invalidDate, request("SPEC", 10));
+
+        // Act
+        List<MeetingAssignmentResultDto> results = useCase.execute(requests);
+
+        // Assert
+        assertEquals("Meeting type 'UNKNOWN' not found.", results.get(0).getError());
+        assertEquals("Meeting hour must be between 8 and 20.", results.get(1).getError());
+        assertEquals("Invalid date format: invalid-date", results.get(2).getError());
+        assertTrue(results.get(3).isAssigned());
+        assertEquals(3, results.get(3).getIndex());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Meeting>> captor = ArgumentCaptor.forClass(List.class);
+        verify(meetingRepositoryPort, times(1)).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        verify(meetingRepositoryPort, never()).save(any(Meeting.class));
+    }
+
+    @Test
+    void testExecute_ShouldReportAnInvalidDurationAndSaveTheValidItem() {
+        // Arrange
+        MeetingRequestDto tooShort = request("SPEC", 14);
+        tooShort.setDurationMinutes(15);
+
+        // Act
+        List<MeetingAssignmentResultDto> results = useCase.execute(List.of(request("SPEC", 10), tooShort));
+
+        // Assert
+        assertTrue(results.get(0).isAssigned());
+        assertFalse(results.get(1).isAssigned());
+        assertEquals("Meeting duration must be between 30 and 720 minutes and end by 20:00.", results.get(1).getError());
+        verify(meetingRepositoryPort, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testExecute_ShouldReportAMeetingEndingAfterEightPm() {
+        // Arrange: 20:00-21:00
+        MeetingRequestDto tooLate = request("SPEC", 20);
+
+        // Act
+        List<MeetingAssignmentResultDto> results = useCase.execute(List.of(request("SPEC", 10), tooLate));
+
+        // Assert
+        assertTrue(results.get(0).isAssigned());
+        assertEquals("Meeting duration must be between 30 and 720 minutes and end by 20:00.", results.get(1).getError());
+    }
+
+    @Test
+    void testExecute_ShouldReportAnArchivedDateAndSaveTheValidItem() {
+        // Arrange: 90 days of retention before 2024-11-01
+        MeetingRequestDto archived = request("SPEC", 14);
+        archived.setMeetingDate("2024-08-02");
+
+        // Act
+        List<MeetingAssignmentResultDto> results = useCase.execute(List.of(request("SPEC", 10), archived));
+
+        // Assert
+        assertTrue(results.get(0).isAssigned());
+        assertFalse(results.get(1).isAssigned());
+        assertEquals("Meeting date must not be before 2024-08-03, earlier dates are archived.", results.get(1).getError());
+        verify(meetingRepositoryPort, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testExecute_ShouldReleaseReservedSlots_WhenAnItemFailsUnexpectedly() {
+        // Arrange
+        MeetingRequestDto noDate = request("SPEC", 14);
+        noDate.setMeetingDate(null);
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> useCase.execute(List.of(request("SPEC", 10), noDate)));
+        verify(meetingRepositoryPort, never()).saveAll(anyList());
+
+        // The best room reserved for the first item is free again
+        List<MeetingAssignmentResultDto> results = useCase.execute(List.of(request("SPEC", 10)));
+        assertEquals("E1001", results.get(0).getMeeting().getAssignedRoomName());
+    }
+
+    @Test
+    void testExecute_ShouldNotSave_WhenNothingIsAssigned() {
+        // Act
+        List<MeetingAssignmentResultDto> results = useCase.execute(List.of(request("SPEC", 7)));
+
+        // Assert
+        assertFalse(results.get(0).isAssigned());
+        verify(meetingRepositoryPort, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testExecute_ShouldSaveOneByOne_WhenASlotWasTakenByAnotherInstance() {
+        // Arrange
+        when(meetingRepositoryPort.saveAll(anyList())).thenThrow(new RoomSlotTakenException("The room slot was booked concurrently."));
+        when(meetingRepositoryPort.save(any(Meeting.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new RoomSlotTakenException("The room slot was booked concurrently."));
+
+        // Act
+        List<MeetingAssignmentResultDto> results = useCase.execute(List.of(request("SPEC", 10), request("SPEC", 10)));
+
+        // Assert
+        assertEquals("E1001", results.get(0).getMeeting().getAssignedRoomName());
+        assertFalse(results.get(1).isAssigned());
+        assertEquals("No suitable room found for the given meeting type, capacity, and time.", results.get(1).getError());
+        verify(meetingRepositoryPort, times(2)).save(any(Meeting.class));
+        // The conflict proved the schedules of the date stale, so they were read again
+        verify(meetingRepositoryPort, times(2)).findAllByDate(LocalDate.of(2024, 12, 1));
+    }
+
+    private static MeetingRequestDto request(String meetingType, int hour) {
+        return MeetingRequestDto.builder()
+                .meetingType(meetingType)
+                .participantCount(8)
+                .meetingDate("2024-12-01")
+                .meetingHour(hour)
+                .build();
+    }
+}
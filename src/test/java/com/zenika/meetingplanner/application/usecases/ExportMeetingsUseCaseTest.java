@@ -0,0 +1,76 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.common.dtos.MeetingResponseDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidDateRangeException;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ExportMeetingsUseCaseTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 12, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private MeetingRepositoryPort meetingRepositoryPort;
+
+    private ExportMeetingsUseCase exportMeetingsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        exportMeetingsUseCase = new ExportMeetingsUseCase(meetingRepositoryPort);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecute_ShouldConvertEachStreamedMeeting() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Meeting> consumer = invocation.getArgument(2);
+            consumer.accept(Meeting.builder()
+                    .date(FROM)
+                    .hour(9)
+                    .participantCount(4)
+                    .type(MeetingType.builder().name("RS").build())
+                    .room(Room.builder().id(1L).name("Room A").build())
+                    .build());
+            consumer.accept(Meeting.builder().date(TO).hour(14).participantCount(2).build());
+            return null;
+        }).when(meetingRepositoryPort).forEachInDateRange(eq(FROM), eq(TO), any(Consumer.class));
+        List<MeetingResponseDto> exported = new ArrayList<>();
+
+        // Act
+        exportMeetingsUseCase.execute(FROM, TO, exported::add);
+
+        // Assert
+        assertEquals(2, exported.size());
+        assertEquals("RS", exported.get(0).getMeetingType());
+        assertEquals("Room A", exported.get(0).getAssignedRoomName());
+        assertEquals("2024-12-01", exported.get(0).getMeetingDate());
+        assertNull(exported.get(1).getAssignedRoomName());
+    }
+
+    @Test
+    void testExecute_ReversedRange_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidDateRangeException.class, () -> exportMeetingsUseCase.execute(TO, FROM, meeting -> { }));
+
+        // Verify no interactions
+        verifyNoInteractions(meetingRepositoryPort);
+    }
+}
@@ -0,0 +1,124 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.common.dtos.AvailabilityCalendarDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidDateRangeException;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GetAvailabilityCalendarUseCaseTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 12, 2);
+
+    @Mock
+    private RoomRepositoryPort roomRepository;
+
+    @Mock
+    private MeetingTypeRepositoryPort meetingTypeRepositoryPort;
+
+    @Mock
+    private MeetingRepositoryPort meetingRepository;
+
+    private ExecutorService executor;
+
+    private GetAvailabilityCalendarUseCase getAvailabilityCalendarUseCase;
+
+    private Room bestRoom;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        executor = Executors.newFixedThreadPool(4);
+        getAvailabilityCalendarUseCase = new GetAvailabilityCalendarUseCase(
+                new RoomCatalog(roomRepository, meetingTypeRepositoryPort),
+                new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES), executor, 31);
+
+        MeetingType meetingType = MeetingType.builder()
+                .name("SPEC")
+                .minimumCapacity(3)
+                .requiredEquipment(List.of(new Equipment("Projector")))
+                .build();
+        bestRoom = Room.builder().id(1L).name("Small Room").capacity(10)
+                .equipments(List.of(new Equipment("Projector"))).build();
+        Room otherRoom = Room.builder().id(2L).name("Large Room").capacity(30)
+                .equipments(List.of(new Equipment("Projector"))).build();
+
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(meetingTypeRepositoryPort.findAll()).thenReturn(List.of(meetingType));
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of(bestRoom, otherRoom));
+        when(meetingRepository.findAllByDate(any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testExecute_ShouldFallBackToNextRoom_WhenBestRoomIsBooked() {
+        // Arrange
+        when(meetingRepository.findAllByDate(START_DATE.plusDays(1)))
+                .thenReturn(List.of(Meeting.builder().date(START_DATE.plusDays(1)).hour(10).room(bestRoom).build()));
+
+        // Act
+        AvailabilityCalendarDto calendar = getAvailabilityCalendarUseCase.execute("SPEC", 5, START_DATE, START_DATE.plusDays(2));
+
+        // Assert
+        assertEquals(12, calendar.getHours().size());
+        assertEquals(8, calendar.getHours().get(0));
+        assertEquals(3, calendar.getDays().size());
+        assertEquals(List.of(START_DATE.toString(), START_DATE.plusDays(1).toString(), START_DATE.plusDays(2).toString()),
+                calendar.getDays().stream().map(day -> day.getDate()).toList());
+        assertTrue(calendar.getDays().get(0).getBestRooms().stream().allMatch("Small Room"::equals));
+
+        // 9h, 10h and 11h are blocked by the 10h meeting and its cleaning hours
+        List<String> bookedDay = calendar.getDays().get(1).getBestRooms();
+        assertEquals("Small Room", bookedDay.get(8 - 8));
+        assertEquals("Large Room", bookedDay.get(9 - 8));
+        assertEquals("Large Room", bookedDay.get(10 - 8));
+        assertEquals("Large Room", bookedDay.get(11 - 8));
+        assertEquals("Small Room", bookedDay.get(12 - 8));
+
+        // The room catalog is read once for the whole range
+        verify(roomRepository, times(1)).findAllRoomsWithEquipments();
+    }
+
+    @Test
+    void testExecute_ShouldReturnNoRoom_WhenCapacityTooHigh() {
+        // Act
+        AvailabilityCalendarDto calendar = getAvailabilityCalendarUseCase.execute("SPEC", 50, START_DATE, START_DATE);
+
+        // Assert
+        assertTrue(calendar.getDays().get(0).getBestRooms().stream().allMatch(room -> room == null));
+    }
+
+    @Test
+    void testExecute_InvalidRange_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidDateRangeException.class,
+                () -> getAvailabilityCalendarUseCase.execute("SPEC", 5, START_DATE, START_DATE.minusDays(1)));
+        assertThrows(InvalidDateRangeException.class,
+                () -> getAvailabilityCalendarUseCase.execute("SPEC", 5, START_DATE, START_DATE.plusDays(31)));
+    }
+}
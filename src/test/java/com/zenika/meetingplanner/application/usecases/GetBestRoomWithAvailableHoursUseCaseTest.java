@@ -1,17 +1,20 @@
 package com.zenika.meetingplanner.application.usecases;
 
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
 import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
 import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
 import com.zenika.meetingplanner.common.dtos.RoomWithAvailableHoursDto;
 import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
 import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
+import com.zenika.meetingplanner.domain.DaySchedule;
 import com.zenika.meetingplanner.domain.Equipment;
 import com.zenika.meetingplanner.domain.Meeting;
 import com.zenika.meetingplanner.domain.MeetingType;
 import com.zenika.meetingplanner.domain.Room;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -30,7 +33,9 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
     @Mock
     private MeetingTypeRepositoryPort meetingTypeRepositoryPort;
 
-    @InjectMocks
+    @Mock
+    private MeetingRepositoryPort meetingRepository;
+
     private GetBestRoomWithAvailableHoursUseCase getBestRoomWithAvailableHoursUseCase;
 
     private MeetingType meetingType;
@@ -38,6 +43,8 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        getBestRoomWithAvailableHoursUseCase = new GetBestRoomWithAvailableHoursUseCase(new RoomCatalog(roomRepository, meetingTypeRepositoryPort),
+                new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES));
 
         // Initialize meeting type
         meetingType = MeetingType.builder()
@@ -53,6 +60,7 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
         LocalDate meetingDate = LocalDate.of(2024, 12, 1);
 
         Room bestRoom = Room.builder()
+                .id(1L)
                 .name("Conference Room A")
                 .capacity(15)
                 .equipments(List.of(new Equipment("Whiteboard"), new Equipment("Projector")))
@@ -60,7 +68,7 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
                 .build();
 
         when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
-        when(roomRepository.findAllRooms()).thenReturn(List.of(bestRoom));
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of(bestRoom));
 
         // Act
         RoomWithAvailableHoursDto responseDto = getBestRoomWithAvailableHoursUseCase.execute("SPEC", 10, meetingDate);
@@ -76,7 +84,31 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
 
         // Verify interactions
         verify(meetingTypeRepositoryPort, times(1)).findByName("SPEC");
-        verify(roomRepository, times(1)).findAllRooms();
+        verify(roomRepository, times(1)).findAllRoomsWithEquipments();
+    }
+
+    @Test
+    void testExecute_WithDuration_ShouldReturnHoursAndWindowsLongEnough() {
+        // Arrange
+        LocalDate meetingDate = LocalDate.of(2024, 12, 1);
+        Room bestRoom = Room.builder()
+                .id(1L)
+                .name("Conference Room A")
+                .capacity(15)
+                .equipments(List.of(new Equipment("Whiteboard"), new Equipment("Projector")))
+                .build();
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of(bestRoom));
+        when(meetingRepository.findAllByDate(meetingDate)).thenReturn(List.of(
+                Meeting.builder().date(meetingDate).hour(11).durationMinutes(90).room(bestRoom).build()));
+
+        // Act
+        RoomWithAvailableHoursDto responseDto = getBestRoomWithAvailableHoursUseCase.execute("SPEC", 10, meetingDate, 120);
+
+        // Assert: 11:00-12:30 and its cleaning hours leave 8:00-10:00 and 13:30-20:00 free
+        assertEquals(List.of("8h00-10h00", "14h00-16h00", "15h00-17h00", "16h00-18h00", "17h00-19h00", "18h00-20h00"),
+                responseDto.getAvailableHours());
+        assertEquals(List.of("8h00-10h00", "13h30-20h00"), responseDto.getAvailableWindows());
     }
 
     @Test
@@ -90,9 +122,9 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
 
         assertEquals("Meeting type 'SPEC' not found.", exception.getMessage());
 
-        // Verify no further interactions
+        // Verify the availability is never loaded
         verify(meetingTypeRepositoryPort, times(1)).findByName("SPEC");
-        verifyNoInteractions(roomRepository);
+        verifyNoInteractions(meetingRepository);
     }
 
     @Test
@@ -101,7 +133,7 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
         LocalDate meetingDate = LocalDate.of(2024, 12, 1);
 
         when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
-        when(roomRepository.findAllRooms()).thenReturn(List.of()); // No rooms available
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of()); // No rooms available
 
         // Act & Assert
         NoSuitableRoomException exception = assertThrows(NoSuitableRoomException.class,
@@ -111,7 +143,7 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
 
         // Verify interactions
         verify(meetingTypeRepositoryPort, times(1)).findByName("SPEC");
-        verify(roomRepository, times(1)).findAllRooms();
+        verify(roomRepository, times(1)).findAllRoomsWithEquipments();
     }
 
     @Test
@@ -120,6 +152,7 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
         LocalDate meetingDate = LocalDate.of(2024, 12, 1);
 
         Room unsuitableRoom = Room.builder()
+                .id(1L)
                 .name("Small Room")
                 .capacity(5) // Insufficient capacity
                 .equipments(List.of(new Equipment("Whiteboard")))
@@ -127,7 +160,7 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
                 .build();
 
         when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
-        when(roomRepository.findAllRooms()).thenReturn(List.of(unsuitableRoom));
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of(unsuitableRoom));
 
         // Act & Assert
         NoSuitableRoomException exception = assertThrows(NoSuitableRoomException.class,
@@ -137,7 +170,7 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
 
         // Verify interactions
         verify(meetingTypeRepositoryPort, times(1)).findByName("SPEC");
-        verify(roomRepository, times(1)).findAllRooms();
+        verify(roomRepository, times(1)).findAllRoomsWithEquipments();
     }
 
     @Test
@@ -146,21 +179,23 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
         LocalDate meetingDate = LocalDate.of(2024, 12, 1);
 
         Room conflictingRoom = Room.builder()
+                .id(1L)
                 .name("Conference Room A")
                 .capacity(15)
                 .equipments(List.of(new Equipment("Whiteboard"), new Equipment("Projector")))
-                .reservations(List.of(
-                        Meeting.builder().date(LocalDate.of(2024, 12, 1)).hour(8).build(),
-                        Meeting.builder().date(LocalDate.of(2024, 12, 1)).hour(10).build(),
-                        Meeting.builder().date(LocalDate.of(2024, 12, 1)).hour(12).build(),
-                        Meeting.builder().date(LocalDate.of(2024, 12, 1)).hour(14).build(),
-                        Meeting.builder().date(LocalDate.of(2024, 12, 1)).hour(16).build(),
-                        Meeting.builder().date(LocalDate.of(2024, 12, 1)).hour(18).build()
-                ))
+                .reservations(List.of())
                 .build();
 
         when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
-        when(roomRepository.findAllRooms()).thenReturn(List.of(conflictingRoom));
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of(conflictingRoom));
+        when(meetingRepository.findAllByDate(meetingDate)).thenReturn(List.of(
+                Meeting.builder().date(meetingDate).hour(8).room(conflictingRoom).build(),
+                Meeting.builder().date(meetingDate).hour(10).room(conflictingRoom).build(),
+                Meeting.builder().date(meetingDate).hour(12).room(conflictingRoom).build(),
+                Meeting.builder().date(meetingDate).hour(14).room(conflictingRoom).build(),
+                Meeting.builder().date(meetingDate).hour(16).room(conflictingRoom).build(),
+                Meeting.builder().date(meetingDate).hour(18).room(conflictingRoom).build()
+        ));
 
         // Act & Assert
         NoSuitableRoomException exception = assertThrows(NoSuitableRoomException.class,
@@ -170,6 +205,6 @@ class GetBestRoomWithAvailableHoursUseCaseTest {
 
         // Verify interactions
         verify(meetingTypeRepositoryPort, times(1)).findByName("SPEC");
-        verify(roomRepository, times(1)).findAllRooms();
+        verify(roomRepository, times(1)).findAllRoomsWithEquipments();
     }
 }
@@ -0,0 +1,137 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.common.dtos.EarliestSlotsDto;
+import com.zenika.meetingplanner.common.exceptions.InvalidMeetingDurationException;
+import com.zenika.meetingplanner.common.exceptions.InvalidSlotCountException;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.Equipment;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GetEarliestSlotsUseCaseTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 12, 2);
+
+    @Mock
+    private RoomRepositoryPort roomRepository;
+
+    @Mock
+    private MeetingTypeRepositoryPort meetingTypeRepositoryPort;
+
+    @Mock
+    private MeetingRepositoryPort meetingRepository;
+
+    private GetEarliestSlotsUseCase getEarliestSlotsUseCase;
+
+    private Room bestRoom;
+
+    private Room otherRoom;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        getEarliestSlotsUseCase = new GetEarliestSlotsUseCase(
+                new RoomCatalog(roomRepository, meetingTypeRepositoryPort),
+                new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES), 3);
+
+        MeetingType meetingType = MeetingType.builder()
+                .name("SPEC")
+                .minimumCapacity(3)
+                .requiredEquipment(List.of(new Equipment("Projector")))
+                .build();
+        bestRoom = Room.builder().id(1L).name("Small Room").capacity(10)
+                .equipments(List.of(new Equipment("Projector"))).build();
+        otherRoom = Room.builder().id(2L).name("Large Room").capacity(30)
+                .equipments(List.of(new Equipment("Projector"))).build();
+
+        when(meetingTypeRepositoryPort.findByName("SPEC")).thenReturn(Optional.of(meetingType));
+        when(meetingTypeRepositoryPort.findAll()).thenReturn(List.of(meetingType));
+        when(roomRepository.findAllRoomsWithEquipments()).thenReturn(List.of(bestRoom, otherRoom));
+        when(meetingRepository.findAllByDate(any())).thenReturn(List.of());
+    }
+
+    @Test
+    void testExecute_ShouldSkipFullDaysAndStopOnceEnoughSlotsAreFound() {
+        // Arrange
+        when(meetingRepository.findAllByDate(START_DATE)).thenReturn(List.of(
+                wholeDayMeeting(START_DATE, bestRoom), wholeDayMeeting(START_DATE, otherRoom)));
+        when(meetingRepository.findAllByDate(START_DATE.plusDays(1)))
+                .thenReturn(List.of(Meeting.builder().date(START_DATE.plusDays(1)).hour(8).room(bestRoom).build()));
+
+        // Act
+        EarliestSlotsDto result = getEarliestSlotsUseCase.execute("SPEC", 5, START_DATE, 3, 60);
+
+        // Assert
+        assertEquals(3, result.getSlots().size());
+        assertTrue(result.getSlots().stream().allMatch(slot -> slot.getDate().equals(START_DATE.plusDays(1).toString())));
+        // 8h and 9h are blocked in the best room by the 8h meeting and its cleaning hour
+        assertEquals(8, result.getSlots().get(0).getHour());
+        assertEquals("Large Room", result.getSlots().get(0).getRoomName());
+        assertEquals(9, result.getSlots().get(1).getHour());
+        assertEquals("Large Room", result.getSlots().get(1).getRoomName());
+        assertEquals(10, result.getSlots().get(2).getHour());
+        assertEquals("Small Room", result.getSlots().get(2).getRoomName());
+
+        // The day after the slots found is never loaded
+        verify(meetingRepository, never()).findAllByDate(START_DATE.plusDays(2));
+    }
+
+    @Test
+    void testExecute_ShouldStopAtTheEndOfTheSearchWindow() {
+        // Arrange
+        when(meetingRepository.findAllByDate(any())).thenAnswer(invocation -> {
+            LocalDate date = invocation.getArgument(0);
+            return List.of(wholeDayMeeting(date, bestRoom), wholeDayMeeting(date, otherRoom));
+        });
+
+        // Act
+        EarliestSlotsDto result = getEarliestSlotsUseCase.execute("SPEC", 5, START_DATE, 5, 60);
+
+        // Assert
+        assertTrue(result.getSlots().isEmpty());
+        verify(meetingRepository, times(3)).findAllByDate(any());
+    }
+
+    @Test
+    void testExecute_ShouldReturnNoSlot_WhenCapacityTooHigh() {
+        // Act
+        EarliestSlotsDto result = getEarliestSlotsUseCase.execute("SPEC", 50, START_DATE, 5, 60);
+
+        // Assert
+        assertTrue(result.getSlots().isEmpty());
+        verify(meetingRepository, never()).findAllByDate(any());
+    }
+
+    @Test
+    void testExecute_InvalidCountOrDuration_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidSlotCountException.class,
+                () -> getEarliestSlotsUseCase.execute("SPEC", 5, START_DATE, 0, 60));
+        assertThrows(InvalidSlotCountException.class,
+                () -> getEarliestSlotsUseCase.execute("SPEC", 5, START_DATE, GetEarliestSlotsUseCase.MAX_SLOT_COUNT + 1, 60));
+        assertThrows(InvalidMeetingDurationException.class,
+                () -> getEarliestSlotsUseCase.execute("SPEC", 5, START_DATE, 5, 15));
+    }
+
+    private Meeting wholeDayMeeting(LocalDate date, Room room) {
+        return Meeting.builder().date(date).hour(8).durationMinutes(Meeting.MAX_DURATION_MINUTES).room(room).build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.zenika.meetingplanner.application.usecases;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.ArchivePolicy;
+import com.zenika.meetingplanner.application.services.RoomAvailabilityIndex;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.common.dtos.MeetingImportReportDto;
+import com.zenika.meetingplanner.common.dtos.MeetingImportRowDto;
+import com.zenika.meetingplanner.common.exceptions.RoomSlotTakenException;
+import com.zenika.meetingplanner.domain.DaySchedule;
+import com.zenika.meetingplanner.domain.Meeting;
+import com.zenika.meetingplanner.domain.MeetingType;
+import com.zenika.meetingplanner.domain.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ImportMeetingsUseCaseTest {
+
+    private static final LocalDate MEETING_DATE = LocalDate.of(2023, 6, 1);
+    private static final Clock CLOCK = Clock.fixed(LocalDate.of(2023, 5, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Mock
+    private RoomRepositoryPort roomRepositoryPort;
+
+    @Mock
+    private MeetingTypeRepositoryPort meetingTypeRepositoryPort;
+
+    @Mock
+    private MeetingRepositoryPort meetingRepository;
+
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    private ImportMeetingsUseCase importMeetingsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        roomAvailabilityIndex = new RoomAvailabilityIndex(meetingRepository, DaySchedule.DEFAULT_BUFFER_MINUTES);
+        importMeetingsUseCase = new ImportMeetingsUseCase(new RoomCatalog(roomRepositoryPort, meetingTypeRepositoryPort), meetingRepository, roomAvailabilityIndex, new ArchivePolicy(CLOCK, 90));
+
+        when(roomRepositoryPort.findAllRoomsWithEquipments()).thenReturn(List.of(Room.builder().id(1L).name("Room A").capacity(10).build()));
+        when(meetingTypeRepositoryPort.findByName("RS")).thenReturn(Optional.of(MeetingType.builder().id(4L).name("RS").build()));
+        when(meetingRepository.findAllByDate(MEETING_DATE))
+                .thenReturn(List.of(Meeting.builder().date(MEETING_DATE).hour(14).room(Room.builder().id(1L).build()).build()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecute_ShouldSaveValidRowsAndRejectConflicts() {
+        // Arrange
+        Stream<MeetingImportRowDto> rows = Stream.of(
+                row(1, "RS", 9, "Room A"),
+                row(2, "RS", 10, "Room A"),   // overlaps the 9h row
+                row(3, "RS", 15, "Room A"),   // overlaps the existing 14h meeting
+                row(4, "UNKNOWN", 17, "Room A"),
+                row(5, "RS", 17, "Room Z"),
+                MeetingImportRowDto.builder().line(6).build(),
+                row(7, "RS", 18, "Room A"));
+
+        // Act
+        MeetingImportReportDto report = importMeetingsUseCase.execute(rows);
+
+        // Assert
+        assertEquals(2, report.getImported());
+        assertEquals(5, report.getRejected());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), report.getErrors().stream().map(error -> error.getLine()).toList());
+        assertEquals("The room is already booked at that time.", report.getErrors().get(0).getError());
+        assertEquals("Room 'Room Z' not found.", report.getErrors().get(3).getError());
+        assertTrue(report.getRowsPerSecond() > 0);
+
+        ArgumentCaptor<List<Meeting>> captor = ArgumentCaptor.forClass(List.class);
+        verify(meetingRepository, times(1)).saveAll(captor.capture());
+        assertEquals(List.of(9, 18), captor.getValue().stream().map(Meeting::getHour).toList());
+        assertFalse(roomAvailabilityIndex.isAvailableAt(MEETING_DATE, 1L, 18));
+    }
+
+    @Test
+    void testExecute_ShouldSaveInChunks() {
+        // Arrange: one meeting per day, on 2500 days
+        when(meetingRepository.findAllByDate(any())).thenReturn(List.of());
+        Stream<MeetingImportRowDto> rows = IntStream.range(0, 2500)
+                .mapToObj(i -> MeetingImportRowDto.builder()
+                        .line(i + 1)
+                        .meetingType("RS")
+                        .participantCount(3)
+                        .meetingDate(MEETING_DATE.plusDays(i).toString())
+                        .meetingHour(9)
+                        .roomName("Room A")
+                        .build());
+
+        // Act
+        MeetingImportReportDto report = importMeetingsUseCase.execute(rows);
+
+        // Assert
+        assertEquals(2500, report.getImported());
+        verify(meetingRepository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    void testExecute_ShouldRejectRowsTakenConcurrently() {
+        // Arrange
+        when(meetingRepository.saveAll(anyList())).thenThrow(new RoomSlotTakenException("taken"));
+        when(meetingRepository.save(any(Meeting.class)))
+                .thenThrow(new RoomSlotTakenException("taken"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        MeetingImportReportDto report = importMeetingsUseCase.execute(Stream.of(row(1, "RS", 9, "Room A"), row(2, "RS", 11, "Room A")));
+
+        // Assert
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getRejected());
+        assertEquals(1L, report.getErrors().get(0).getLine());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecute_ShouldReserveTheWholeDurationOfEachRow() {
+        // Arrange
+        MeetingImportRowDto longRow = row(1, "RS", 9, "Room A");
+        longRow.setDurationMinutes(150);
+        MeetingImportRowDto tooShort = row(3, "RS", 17, "Room A");
+        tooShort.setDurationMinutes(15);
+
+        // Act: 9:00-11:30 keeps the room busy until 12:30
+        MeetingImportReportDto report = importMeetingsUseCase.execute(Stream.of(longRow, row(2, "RS", 12, "Room A"), tooShort));
+
+        // Assert
+        assertEquals(1, report.getImported());
+        assertEquals("The room is already booked at that time.", report.getErrors().get(0).getError());
+        assertEquals("Meeting duration must be between 30 and 720 minutes and end by 20:00.", report.getErrors().get(1).getError());
+        ArgumentCaptor<List<Meeting>> captor = ArgumentCaptor.forClass(List.class);
+        verify(meetingRepository).saveAll(captor.capture());
+        assertEquals(150, captor.getValue().get(0).getDurationMinutes());
+    }
+
+    @Test
+    void testExecute_ShouldSaveRowsOfArchivedDatesWithoutClaimingTheirSlots() {
+        // Arrange: 90 days of retention before 2023-05-01
+        MeetingImportRowDto archivedRow = row(1, "RS", 9, "Room A");
+        archivedRow.setMeetingDate("2022-06-01");
+        MeetingImportRowDto yesterdayRow = row(2, "RS", 9, "Room A");
+        yesterdayRow.setMeetingDate("2023-04-30");
+
+        // Act
+        MeetingImportReportDto report = importMeetingsUseCase.execute(Stream.of(archivedRow, yesterdayRow));
+
+        // Assert
+        assertEquals(2, report.getImported());
+        assertEquals(0, report.getRejected());
+        verify(meetingRepository).saveAllUnclaimed(argThat(meetings -> meetings.size() == 1
+                && meetings.get(0).getDate().equals(LocalDate.of(2022, 6, 1))));
+        verify(meetingRepository).saveAll(argThat(meetings -> meetings.size() == 1
+                && meetings.get(0).getDate().equals(LocalDate.of(2023, 4, 30))));
+    }
+
+    private static MeetingImportRowDto row(long line, String meetingType, int hour, String roomName) {
+        return MeetingImportRowDto.builder()
+                .line(line)
+                .meetingType(meetingType)
+                .participantCount(4)
+                .meetingDate(MEETING_DATE.toString())
+                .meetingHour(hour)
+                .roomName(roomName)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.zenika.meetingplanner.common.aspects;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.zenika.meetingplanner.adapters.inbound.rest.RoomController;
+import com.zenika.meetingplanner.application.usecases.GetBestRoomWithAvailableHoursUseCase;
+import com.zenika.meetingplanner.common.dtos.RoomWithAvailableHoursDto;
+import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
+import com.zenika.meetingplanner.common.exceptions.NoSuitableRoomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ApiLoggingAspectTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ApiLoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    private GetBestRoomWithAvailableHoursUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        appender.start();
+        logger.addAppender(appender);
+
+        useCase = mock(GetBestRoomWithAvailableHoursUseCase.class);
+        when(useCase.execute("SPEC", 5, LocalDate.of(2024, 12, 1), 60))
+                .thenReturn(RoomWithAvailableHoursDto.builder().name("Room A").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    void testLogControllerMethods_ShouldOnlyLogLatency_WhenPayloadsDisabled() {
+        // Arrange
+        RoomController controller = proxy(new ApiLoggingAspect(false, 1.0));
+
+        // Act
+        controller.getBestRoomWithAvailableHours("SPEC", 5, "2024-12-01", 60);
+
+        // Assert
+        List<ILoggingEvent> events = appender.list;
+        assertEquals(1, events.size());
+        assertEquals(Level.INFO, events.get(0).getLevel());
+        assertTrue(events.get(0).getFormattedMessage().contains("outcome=200 durationMicros="));
+    }
+
+    @Test
+    void testLogControllerMethods_ShouldLogPayloads_WhenEnabledAndSampled() {
+        // Arrange
+        RoomController controller = proxy(new ApiLoggingAspect(true, 1.0));
+
+        // Act
+        controller.getBestRoomWithAvailableHours("SPEC", 5, "2024-12-01", 60);
+
+        // Assert
+        List<ILoggingEvent> events = appender.list;
+        assertEquals(3, events.size());
+        assertTrue(events.get(0).getFormattedMessage().contains("arguments=[SPEC, 5, 2024-12-01, 60]"));
+        assertTrue(events.get(2).getFormattedMessage().contains("Room A"));
+    }
+
+    @Test
+    void testLogControllerMethods_ShouldSkipPayloads_WhenNotSampled() {
+        // Arrange
+        RoomController controller = proxy(new ApiLoggingAspect(true, 0.0));
+
+        // Act
+        controller.getBestRoomWithAvailableHours("SPEC", 5, "2024-12-01", 60);
+
+        // Assert
+        assertEquals(1, appender.list.size());
+    }
+
+    @Test
+    void testLogControllerMethods_ShouldLogWarnWithoutStackTrace_WhenBusinessException() {
+        // Arrange
+        when(useCase.execute("SPEC", 50, LocalDate.of(2024, 12, 1), 60)).thenThrow(new NoSuitableRoomException("No suitable room found"));
+        RoomController controller = proxy(new ApiLoggingAspect(false, 1.0));
+
+        // Act & Assert
+        assertThrows(NoSuitableRoomException.class, () -> controller.getBestRoomWithAvailableHours("SPEC", 50, "2024-12-01", 60));
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertTrue(event.getFormattedMessage().contains("outcome=NoSuitableRoomException"));
+        assertNull(event.getThrowableProxy());
+    }
+
+    @Test
+    void testLogControllerMethods_ShouldLogWarn_WhenSubclassOfBusinessException() {
+        // Arrange
+        when(useCase.execute("SPEC", 50, LocalDate.of(2024, 12, 1), 60)).thenThrow(new MeetingTypeNotFoundException("Unknown type") {
+        });
+        RoomController controller = proxy(new ApiLoggingAspect(false, 1.0));
+
+        // Act & Assert
+        assertThrows(MeetingTypeNotFoundException.class, () -> controller.getBestRoomWithAvailableHours("SPEC", 50, "2024-12-01", 60));
+        assertEquals(Level.WARN, appender.list.get(0).getLevel());
+    }
+
+    @Test
+    void testLogControllerMethods_ShouldLogWarn_WhenDateCannotBeParsed() {
+        // Arrange
+        RoomController controller = proxy(new ApiLoggingAspect(false, 1.0));
+
+        // Act & Assert
+        assertThrows(DateTimeParseException.class, () -> controller.getBestRoomWithAvailableHours("SPEC", 5, "not-a-date", 60));
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertNull(event.getThrowableProxy());
+    }
+
+    @Test
+    void testLogControllerMethods_ShouldLogErrorWithStackTrace_WhenUnexpectedException() {
+        // Arrange
+        when(useCase.execute("SPEC", 50, LocalDate.of(2024, 12, 1), 60)).thenThrow(new IllegalStateException("boom"));
+        RoomController controller = proxy(new ApiLoggingAspect(false, 1.0));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> controller.getBestRoomWithAvailableHours("SPEC", 50, "2024-12-01", 60));
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.ERROR, event.getLevel());
+        assertNotNull(event.getThrowableProxy());
+    }
+
+    private RoomController proxy(ApiLoggingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new RoomController(useCase, null, null));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,117 @@
+package com.zenika.meetingplanner.common.aspects;
+
+import com.zenika.meetingplanner.application.ports.MeetingRepositoryPort;
+import com.zenika.meetingplanner.application.ports.MeetingTypeRepositoryPort;
+import com.zenika.meetingplanner.application.ports.RoomRepositoryPort;
+import com.zenika.meetingplanner.application.services.RoomCatalog;
+import com.zenika.meetingplanner.application.usecases.GetBestRoomWithAvailableHoursUseCase;
+import com.zenika.meetingplanner.common.exceptions.MeetingTypeNotFoundException;
+import com.zenika.meetingplanner.domain.Meeting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private MetricsAspect metricsAspect;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metricsAspect = new MetricsAspect(registry);
+    }
+
+    @Test
+    void testTimeRepositories_ShouldTimeCallAndRecordRowCount() {
+        // Arrange
+        MeetingRepositoryPort repository = proxy(new StubMeetingRepository(), MeetingRepositoryPort.class);
+
+        // Act
+        repository.findAllByDate(LocalDate.of(2024, 12, 1));
+
+        // Assert
+        assertEquals(1, registry.get("meetingplanner.repository")
+                .tags("adapter", "StubMeetingRepository", "method", "findAllByDate", "outcome", "success")
+                .timer().count());
+        assertEquals(2, registry.get("meetingplanner.repository.results")
+                .tags("adapter", "StubMeetingRepository", "method", "findAllByDate")
+                .summary().totalAmount());
+    }
+
+    @Test
+    void testTimeUseCases_ShouldCountBusinessExceptions() {
+        // Arrange
+        MeetingTypeRepositoryPort meetingTypeRepository = mock(MeetingTypeRepositoryPort.class);
+        when(meetingTypeRepository.findByName("UNKNOWN")).thenReturn(Optional.empty());
+        GetBestRoomWithAvailableHoursUseCase useCase = proxy(
+                new GetBestRoomWithAvailableHoursUseCase(new RoomCatalog(mock(RoomRepositoryPort.class), meetingTypeRepository), null),
+                GetBestRoomWithAvailableHoursUseCase.class);
+
+        // Act
+        assertThrows(MeetingTypeNotFoundException.class,
+                () -> useCase.execute("UNKNOWN", 5, LocalDate.of(2024, 12, 1)));
+
+        // Assert
+        assertEquals(1, registry.get("meetingplanner.exceptions")
+                .tags("exception", "MeetingTypeNotFoundException", "usecase", "GetBestRoomWithAvailableHoursUseCase")
+                .counter().count());
+        assertEquals(1, registry.get("meetingplanner.usecase")
+                .tags("usecase", "GetBestRoomWithAvailableHoursUseCase", "outcome", "MeetingTypeNotFoundException")
+                .timer().count());
+    }
+
+    private <T> T proxy(Object target, Class<T> type) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(metricsAspect);
+        return type.cast(factory.getProxy());
+    }
+
+    static class StubMeetingRepository implements MeetingRepositoryPort {
+
+        @Override
+        public Meeting save(Meeting meeting) {
+            return meeting;
+        }
+
+        @Override
+        public List<Meeting> saveAll(List<Meeting> meetings) {
+            return meetings;
+        }
+
+        @Override
+        public List<Meeting> saveAllUnclaimed(List<Meeting> meetings) {
+            return meetings;
+        }
+
+        @Override
+        public List<Meeting> findAllByDate(LocalDate date) {
+            return List.of(Meeting.builder().date(date).hour(9).build(), Meeting.builder().date(date).hour(14).build());
+        }
+
+        @Override
+        public void forEachInDateRange(LocalDate from, LocalDate to, Consumer<Meeting> consumer) {
+            findAllByDate(from).forEach(consumer);
+        }
+
+        @Override
+        public int archiveBefore(LocalDate date, int limit) {
+            return 0;
+        }
+
+        @Override
+        public int deleteSlotClaimsBefore(LocalDate date, int limit) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.zenika.meetingplanner.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayScheduleTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 1);
+    private static final int BUFFER = DaySchedule.DEFAULT_BUFFER_MINUTES;
+
+    @Test
+    void testIsFree_WhenMeetingAndBuffersAreFree_ShouldReturnTrue() {
+        DaySchedule schedule = DaySchedule.of(List.of(meeting(10, 60)));
+        assertTrue(schedule.isFree(12 * 60, 13 * 60, BUFFER));
+        assertTrue(schedule.isFree(8 * 60, 9 * 60, BUFFER));
+    }
+
+    @Test
+    void testIsFree_WhenMeetingOrBufferOverlaps_ShouldReturnFalse() {
+        DaySchedule schedule = DaySchedule.of(List.of(meeting(10, 60)));
+        assertFalse(schedule.isFree(9 * 60, 10 * 60, BUFFER));
+        assertFalse(schedule.isFree(10 * 60, 11 * 60, BUFFER));
+        assertFalse(schedule.isFree(11 * 60, 12 * 60, BUFFER));
+        assertFalse(schedule.isFree(8 * 60, 13 * 60, BUFFER)); // Covers the whole meeting
+    }
+
+    @Test
+    void testIsFree_ShouldUseTheGivenBuffer() {
+        DaySchedule schedule = DaySchedule.of(List.of(meeting(10, 90)));
+        assertTrue(schedule.isFree(11 * 60 + 30, 12 * 60, 0));
+        assertFalse(schedule.isFree(11 * 60 + 30, 12 * 60, 15));
+        assertTrue(schedule.isFree(11 * 60 + 45, 12 * 60, 15));
+    }
+
+    @Test
+    void testWithAndWithout_ShouldKeepIntervalsSorted() {
+        DaySchedule schedule = DaySchedule.EMPTY.with(14 * 60, 15 * 60).with(9 * 60, 10 * 60).with(11 * 60, 12 * 60);
+        assertEquals(List.of(new TimeWindow(540, 600), new TimeWindow(660, 720), new TimeWindow(840, 900)), schedule.bookedIntervals());
+
+        DaySchedule released = schedule.without(11 * 60, 12 * 60);
+        assertEquals(List.of(new TimeWindow(540, 600), new TimeWindow(840, 900)), released.bookedIntervals());
+        assertSame(released, released.without(11 * 60, 12 * 60));
+    }
+
+    @Test
+    void testOf_ShouldMergeOverlappingMeetings() {
+        DaySchedule schedule = DaySchedule.of(List.of(meeting(10, 120), meeting(11, 120), meeting(15, 60)));
+        assertEquals(List.of(new TimeWindow(600, 780), new TimeWindow(900, 960)), schedule.bookedIntervals());
+    }
+
+    @Test
+    void testUnion_ShouldKeepBothSchedulesAndMergeOverlaps() {
+        DaySchedule local = DaySchedule.of(List.of(meeting(9, 60), meeting(14, 60)));
+        DaySchedule loaded = DaySchedule.of(List.of(meeting(9, 60), meeting(11, 60), meeting(14, 90)));
+
+        assertEquals(List.of(new TimeWindow(540, 600), new TimeWindow(660, 720), new TimeWindow(840, 930)),
+                local.union(loaded).bookedIntervals());
+        assertSame(local, local.union(DaySchedule.EMPTY));
+    }
+
+    @Test
+    void testMinus_ShouldOnlyRemoveIntervalsWithTheSameStartAndEnd() {
+        DaySchedule pending = DaySchedule.of(List.of(meeting(9, 60), meeting(14, 60)));
+        DaySchedule saved = DaySchedule.of(List.of(meeting(9, 60), meeting(14, 90)));
+
+        assertEquals(List.of(new TimeWindow(840, 900)), pending.minus(saved).bookedIntervals());
+        assertSame(pending, pending.minus(DaySchedule.EMPTY));
+    }
+
+    @Test
+    void testFreeWindows_ShouldReturnGapsLongEnoughForTheMeeting() {
+        DaySchedule schedule = DaySchedule.of(List.of(meeting(10, 60), meeting(13, 30), meeting(16, 120)));
+
+        assertEquals(List.of(new TimeWindow(8 * 60, 9 * 60), new TimeWindow(14 * 60 + 30, 15 * 60), new TimeWindow(19 * 60, 20 * 60)),
+                schedule.freeWindows(8 * 60, 20 * 60, 30, BUFFER));
+        assertEquals(List.of(), schedule.freeWindows(8 * 60, 20 * 60, 90, BUFFER));
+        assertEquals(List.of(new TimeWindow(11 * 60, 13 * 60), new TimeWindow(13 * 60 + 30, 16 * 60)),
+                schedule.freeWindows(11 * 60, 17 * 60, 120, 0));
+    }
+
+    @Test
+    void testFreeWindows_WhenNothingIsBooked_ShouldReturnTheWholeRange() {
+        assertEquals(List.of(new TimeWindow(8 * 60, 20 * 60)), DaySchedule.EMPTY.freeWindows(8 * 60, 20 * 60, 720, BUFFER));
+    }
+
+    @Test
+    void testFreeHours_ShouldListWholeHoursTheMeetingFitsAt() {
+        DaySchedule schedule = DaySchedule.of(List.of(meeting(10, 60), meeting(15, 60)));
+
+        assertEquals(List.of(8, 12, 13, 17, 18, 19), HourSlots.toList(schedule.freeHours(60, BUFFER)));
+        assertEquals(List.of(12, 17, 18), HourSlots.toList(schedule.freeHours(120, BUFFER)));
+    }
+
+    private static Meeting meeting(int hour, int durationMinutes) {
+        return Meeting.builder().date(DATE).hour(hour).durationMinutes(durationMinutes).build();
+    }
+}
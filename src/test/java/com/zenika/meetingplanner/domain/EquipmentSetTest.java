@@ -0,0 +1,46 @@
+package com.zenika.meetingplanner.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquipmentSetTest {
+
+    @Test
+    void testContainsAll_WhenAllRequiredEquipmentIsPresent_ShouldReturnTrue() {
+        EquipmentSet roomEquipment = EquipmentSet.of(List.of(new Equipment("Screen"), new Equipment("Webcam"), new Equipment("Board")));
+        EquipmentSet required = EquipmentSet.of(List.of(new Equipment("Webcam"), new Equipment("Screen")));
+        assertTrue(roomEquipment.containsAll(required));
+    }
+
+    @Test
+    void testContainsAll_WhenRequiredEquipmentIsMissing_ShouldReturnFalse() {
+        EquipmentSet roomEquipment = EquipmentSet.of(List.of(new Equipment("Screen")));
+        EquipmentSet required = EquipmentSet.of(List.of(new Equipment("Screen"), new Equipment("Octopus")));
+        assertFalse(roomEquipment.containsAll(required));
+    }
+
+    @Test
+    void testContainsAll_WhenNothingIsRequired_ShouldReturnTrue() {
+        assertTrue(EquipmentSet.EMPTY.containsAll(EquipmentSet.of(null)));
+        assertTrue(EquipmentSet.of(List.of(new Equipment("Screen"))).containsAll(EquipmentSet.of(List.of())));
+    }
+
+    @Test
+    void testContainsAll_WhenCatalogExceeds64Equipments_ShouldCompareOverflowBits() {
+        List<Equipment> catalog = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            catalog.add(new Equipment("Overflow equipment " + i));
+        }
+        EquipmentSet everything = EquipmentSet.of(catalog);
+        EquipmentSet lastOnly = EquipmentSet.of(List.of(catalog.get(99)));
+
+        assertTrue(EquipmentRegistry.size() > Long.SIZE);
+        assertTrue(everything.containsAll(lastOnly));
+        assertFalse(EquipmentSet.of(catalog.subList(0, 99)).containsAll(lastOnly));
+        assertFalse(EquipmentSet.EMPTY.containsAll(lastOnly));
+    }
+}
@@ -0,0 +1,33 @@
+package com.zenika.meetingplanner.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HourSlotsTest {
+
+    @Test
+    void testRange_ShouldSetEveryHourOfTheRange() {
+        assertEquals(List.of(10, 11, 12), HourSlots.toList(HourSlots.range(10, 13)));
+    }
+
+    @Test
+    void testRange_WhenRangeIsOutsideTheDay_ShouldBeClipped() {
+        assertEquals(List.of(22, 23), HourSlots.toList(HourSlots.range(22, 26)));
+        assertEquals(0, HourSlots.range(-2, 0));
+        assertEquals(0, HourSlots.range(12, 12));
+    }
+
+    @Test
+    void testSpan_ShouldIncludeHoursTouchedPartly() {
+        assertEquals(List.of(10, 11), HourSlots.toList(HourSlots.span(10 * 60, 12 * 60)));
+        assertEquals(List.of(9, 10, 11), HourSlots.toList(HourSlots.span(9 * 60 + 30, 11 * 60 + 30)));
+    }
+
+    @Test
+    void testWorkingHours_ShouldListHoursFrom8To19() {
+        assertEquals(List.of(8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19), HourSlots.toList(HourSlots.workingHours()));
+    }
+}
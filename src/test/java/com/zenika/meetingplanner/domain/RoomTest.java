@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class RoomTest {
 
+    private static final int BUFFER = DaySchedule.DEFAULT_BUFFER_MINUTES;
+
     private Room room;
     private MeetingType meetingType;
     private Equipment projector;
@@ -41,14 +43,45 @@ class RoomTest {
     void testIsAvailableAt_WhenRoomIsAvailable_ShouldReturnTrue() {
         LocalDate date = LocalDate.of(2024, 12, 1);
         int hour = 12; // No reservation at 12:00 or surrounding hours
-        assertTrue(room.isAvailableAt(date, hour));
+        assertTrue(room.isAvailableAt(date, hour, Meeting.DEFAULT_DURATION_MINUTES, BUFFER));
     }
 
     @Test
     void testIsAvailableAt_WhenRoomIsNotAvailable_ShouldReturnFalse() {
         LocalDate date = LocalDate.of(2024, 12, 1);
         int hour = 10; // Reservation exists at 10:00
-        assertFalse(room.isAvailableAt(date, hour));
+        assertFalse(room.isAvailableAt(date, hour, Meeting.DEFAULT_DURATION_MINUTES, BUFFER));
+    }
+
+    @Test
+    void testIsAvailableAt_WhenNeighbourHourIsBooked_ShouldReturnFalse() {
+        LocalDate date = LocalDate.of(2024, 12, 1);
+        assertFalse(room.isAvailableAt(date, 9, Meeting.DEFAULT_DURATION_MINUTES, BUFFER)); // Cleaning hour before the 10:00 meeting
+        assertFalse(room.isAvailableAt(date, 16, Meeting.DEFAULT_DURATION_MINUTES, BUFFER)); // Cleaning hour after the 15:00 meeting
+    }
+
+    @Test
+    void testIsAvailableAt_ShouldKeepTheGivenBuffer() {
+        LocalDate date = LocalDate.of(2024, 12, 1);
+        assertTrue(room.isAvailableAt(date, 9, Meeting.DEFAULT_DURATION_MINUTES, 0)); // Ends as the 10:00 meeting starts
+        assertEquals(List.of(8, 9, 11, 12, 13, 14, 16, 17, 18, 19), room.findAvailableHoursOnDate(date, 0));
+    }
+
+    @Test
+    void testIsAvailableAt_WhenReservationsAreOnAnotherDate_ShouldReturnTrue() {
+        LocalDate date = LocalDate.of(2024, 12, 2);
+        assertTrue(room.isAvailableAt(date, 10, Meeting.DEFAULT_DURATION_MINUTES, BUFFER));
+    }
+
+    @Test
+    void testIsAvailableAt_WhenReservationsAreReplaced_ShouldUseNewReservations() {
+        LocalDate date = LocalDate.of(2024, 12, 1);
+        assertFalse(room.isAvailableAt(date, 10, Meeting.DEFAULT_DURATION_MINUTES, BUFFER));
+
+        room.setReservations(List.of(Meeting.builder().date(date).hour(12).build()));
+
+        assertTrue(room.isAvailableAt(date, 10, Meeting.DEFAULT_DURATION_MINUTES, BUFFER));
+        assertFalse(room.isAvailableAt(date, 12, Meeting.DEFAULT_DURATION_MINUTES, BUFFER));
     }
 
     @Test
@@ -94,7 +127,7 @@ class RoomTest {
     @Test
     void testFindAvailableHoursOnDate_WhenRoomHasFreeSlots_ShouldReturnAvailableHours() {
         LocalDate date = LocalDate.of(2024, 12, 1);
-        List<Integer> availableHours = room.findAvailableHoursOnDate(date);
+        List<Integer> availableHours = room.findAvailableHoursOnDate(date, BUFFER);
 
         assertEquals(List.of(8, 12, 13, 17, 18, 19), availableHours);
     }
@@ -110,7 +143,7 @@ class RoomTest {
                 Meeting.builder().date(LocalDate.of(2024, 12, 1)).hour(18).build()
         ));
 
-        List<Integer> availableHours = room.findAvailableHoursOnDate(LocalDate.of(2024, 12, 1));
+        List<Integer> availableHours = room.findAvailableHoursOnDate(LocalDate.of(2024, 12, 1), BUFFER);
         assertTrue(availableHours.isEmpty());
     }
 }